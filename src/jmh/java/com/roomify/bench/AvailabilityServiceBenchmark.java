@@ -0,0 +1,48 @@
+package com.roomify.bench;
+
+import com.roomify.core.service.AvailabilityService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class AvailabilityServiceBenchmark {
+
+    private static final int ROOMS = 500;
+
+    @Param({"10000", "1000000"})
+    public int bookings;
+
+    private AvailabilityService availabilityService;
+    private LocalDate start;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // the service rejects past check-ins, so the data set sits in the coming year
+        start = LocalDate.now().plusDays(1);
+        availabilityService = new AvailabilityService(BenchData.bookings(bookings, ROOMS, start, 330, 42));
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public boolean isAvailable() {
+        LocalDate from = start.plusDays(random.nextInt(330));
+        return availabilityService.isAvailable(BenchData.roomId(random.nextInt(ROOMS)), from,
+                from.plusDays(1 + random.nextInt(7)));
+    }
+
+    @Benchmark
+    public List<LocalDate> getAvailableDates() {
+        LocalDate from = start.plusDays(random.nextInt(300));
+        return availabilityService.getAvailableDates(BenchData.roomId(random.nextInt(ROOMS)), from, from.plusDays(30));
+    }
+}
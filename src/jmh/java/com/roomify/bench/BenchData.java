@@ -0,0 +1,106 @@
+package com.roomify.bench;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.PaymentResult;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import com.roomify.core.service.NotificationService;
+import com.roomify.core.service.PaymentService;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded data sets and in-memory stand-ins shared by the service benchmarks.
+ */
+final class BenchData {
+
+    private BenchData() {
+    }
+
+    static InMemoryRoomRepository rooms(int count) {
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        for (int i = 0; i < count; i++) {
+            rooms.save(new Room(roomId(i), i % 10 == 0 ? "suite" : "double", 2, 80 + (i % 7) * 20));
+        }
+        return rooms;
+    }
+
+    /**
+     * {@code count} bookings of 1-7 nights spread over {@code rooms} rooms and the
+     * {@code spanDays} days from {@code start}; overlaps are allowed, as in the reports.
+     */
+    static InMemoryBookingRepository bookings(int count, int rooms, LocalDate start, int spanDays, long seed) {
+        InMemoryBookingRepository repository = new InMemoryBookingRepository();
+        SplittableRandom random = new SplittableRandom(seed);
+        int users = Math.max(10, count / 5);
+        for (int i = 0; i < count; i++) {
+            LocalDate from = start.plusDays(random.nextInt(spanDays));
+            int nights = 1 + random.nextInt(7);
+            repository.save(new Booking("b" + i, roomId(random.nextInt(rooms)), "user-" + random.nextInt(users),
+                    from, from.plusDays(nights), nights * (80 + random.nextInt(300))));
+        }
+        return repository;
+    }
+
+    static String roomId(int index) {
+        return "room-" + index;
+    }
+
+    static final class ApprovingPaymentService implements PaymentService {
+
+        @Override
+        public PaymentResult charge(String userId, double amount) {
+            return new PaymentResult(true, "tx-" + userId);
+        }
+
+        @Override
+        public PaymentResult refund(String userId, double amount) {
+            return new PaymentResult(true, "refund-" + userId);
+        }
+    }
+
+    // Stands in for a remote provider: every call blocks for a fixed time
+    static final class SlowPaymentService implements PaymentService {
+
+        private final PaymentService delegate;
+        private final long latencyMillis;
+
+        SlowPaymentService(PaymentService delegate, long latencyMillis) {
+            this.delegate = delegate;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public PaymentResult charge(String userId, double amount) {
+            pause();
+            return delegate.charge(userId, amount);
+        }
+
+        @Override
+        public PaymentResult refund(String userId, double amount) {
+            pause();
+            return delegate.refund(userId, amount);
+        }
+
+        private void pause() {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    static final class SilentNotificationService implements NotificationService {
+
+        @Override
+        public void notifyBookingCreated(String userId, String bookingId) {
+        }
+
+        @Override
+        public void notifyBookingCancelled(String userId, String bookingId, double refundAmount) {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.roomify.bench;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.BookingRequest;
+import com.roomify.core.metrics.BookingMetrics;
+import com.roomify.core.metrics.MicrometerBookingMetrics;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.service.*;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BookingServiceBenchmark {
+
+    private static final int ROOMS = 500;
+
+    @Param({"10000", "1000000"})
+    public int bookings;
+
+    // "prometheus" records every stage the way production does, to keep the overhead visible
+    @Param({"none", "prometheus"})
+    public String metrics;
+
+    private BookingService bookingService;
+    private InMemoryBookingRepository bookingRepository;
+    private LocalDate checkIn;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDate start = LocalDate.now().plusDays(1);
+        bookingRepository = BenchData.bookings(bookings, ROOMS, start, 300, 42);
+        // a window past the generated data, so every request is available
+        checkIn = start.plusDays(320);
+
+        bookingService = new BookingService(bookingRepository,
+                new AvailabilityService(bookingRepository),
+                new BenchData.ApprovingPaymentService(),
+                new BookingValidator(),
+                new PricingService(BenchData.rooms(ROOMS)),
+                new DiscountService(null),
+                new BenchData.SilentNotificationService(),
+                new InvoiceService(),
+                new CancellationPolicyService(),
+                BookingEventListener.NONE,
+                metrics.equals("none")
+                        ? BookingMetrics.NONE
+                        : new MicrometerBookingMetrics(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT)));
+    }
+
+    /**
+     * Creates a booking and removes it again so the repository stays at the configured
+     * volume; the removal is a single index update and small next to the create path.
+     */
+    @Benchmark
+    public Booking createBooking() {
+        int room = next++ % ROOMS;
+        Booking booking = bookingService.createBooking(
+                new BookingRequest(BenchData.roomId(room), "user-" + room, checkIn, checkIn.plusDays(3)));
+        bookingRepository.delete(booking.getId());
+        return booking;
+    }
+}
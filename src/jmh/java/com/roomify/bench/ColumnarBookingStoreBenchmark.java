@@ -0,0 +1,68 @@
+package com.roomify.bench;
+
+import com.roomify.core.analytics.ColumnarBookingStore;
+import com.roomify.core.analytics.Dimension;
+import com.roomify.core.analytics.GroupResult;
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class ColumnarBookingStoreBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2023, 1, 1);
+    private static final String[] TYPES = {"single", "double", "suite", "penthouse"};
+
+    @Param({"10000000"})
+    public int bookings;
+
+    private ColumnarBookingStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        for (int i = 0; i < 500; i++) {
+            rooms.save(new Room("room-" + i, TYPES[i % TYPES.length], 2, 100));
+        }
+
+        SplittableRandom random = new SplittableRandom(42);
+        store = new ColumnarBookingStore(rooms);
+        store.load(IntStream.range(0, bookings).mapToObj(i -> {
+            LocalDate from = START.plusDays(random.nextInt(3 * 365));
+            int nights = 1 + random.nextInt(10);
+            return new Booking("b" + i, "room-" + random.nextInt(500), "user-" + random.nextInt(1_000_000),
+                    from, from.plusDays(nights), nights * (80 + random.nextInt(300)));
+        }));
+    }
+
+    @Benchmark
+    public List<GroupResult> revenueByWeekdayForSuites() {
+        return store.query()
+                .checkInBetween(LocalDate.of(2024, 1, 1), LocalDate.of(2025, 1, 1))
+                .roomType("suite")
+                .groupBy(Dimension.WEEKDAY)
+                .run();
+    }
+
+    @Benchmark
+    public List<GroupResult> revenueByCustomer() {
+        return store.query().groupBy(Dimension.CUSTOMER).run();
+    }
+
+    @Benchmark
+    public List<GroupResult> top100Customers() {
+        return store.query().groupBy(Dimension.CUSTOMER).limit(100).run();
+    }
+}
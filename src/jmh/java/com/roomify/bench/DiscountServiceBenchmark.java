@@ -0,0 +1,35 @@
+package com.roomify.bench;
+
+import com.roomify.core.service.DiscountService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscountServiceBenchmark {
+
+    private static final LocalDate FRIDAY = LocalDate.of(2025, 6, 6);
+
+    private DiscountService discountService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        discountService = new DiscountService(null);
+    }
+
+    @Benchmark
+    public double applyDiscount_noDiscount() {
+        return discountService.applyDiscount("user-1", 480.0);
+    }
+
+    @Benchmark
+    public double applyDiscount_everyRule() {
+        return discountService.applyDiscount("vip-user-1", 480.0, "SAVE20", FRIDAY, FRIDAY.plusDays(8));
+    }
+}
@@ -0,0 +1,76 @@
+package com.roomify.bench;
+
+/**
+ * Log-linear latency histogram: 32 linear sub-buckets per power of two, so any recorded
+ * value is reported within about 3% using a fixed 15 KB of counters. Not thread-safe;
+ * give each thread its own and {@link #add(LatencyHistogram) add} them up at the end.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+    private final long[] counts = new long[(64 - SUB_BITS + 1) * SUB_BUCKETS];
+    private long count;
+    private long max;
+
+    void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[index(value)]++;
+        count++;
+        max = Math.max(max, value);
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    long count() {
+        return count;
+    }
+
+    long max() {
+        return max;
+    }
+
+    /**
+     * Upper bound of the bucket holding the {@code quantile} (0..1) of recorded values.
+     */
+    long percentile(double quantile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, upperBound(i));
+            }
+        }
+        return max;
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int bucket = exponent - SUB_BITS + 1;
+        int sub = (int) (value >>> (bucket - 1)) - SUB_BUCKETS;
+        return bucket * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBound(int index) {
+        int bucket = index / SUB_BUCKETS;
+        int sub = index % SUB_BUCKETS;
+        if (bucket == 0) {
+            return sub;
+        }
+        return ((long) (SUB_BUCKETS + sub + 1) << (bucket - 1)) - 1;
+    }
+}
@@ -0,0 +1,325 @@
+package com.roomify.bench;
+
+import com.roomify.core.bulkhead.Bulkhead;
+import com.roomify.core.bulkhead.BulkheadPaymentService;
+import com.roomify.core.dto.Booking;
+import com.roomify.core.exception.BulkheadFullException;
+import com.roomify.core.dto.BookingRequest;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import com.roomify.core.service.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mixed read/write load against the services on a {@link WorkloadGenerator} data set,
+ * reporting throughput and latency percentiles per operation.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Dbench.main=com.roomify.bench.LoadDriver \
+ *     -Djmh.args="--rooms=20000 --users=2000000 --bookings=5000000 --threads=8 --duration=60"
+ * </pre>
+ *
+ * <p>Options ({@code --name=value}): {@code seed}, {@code rooms}, {@code users},
+ * {@code bookings}, {@code threads}, {@code warmup} and {@code duration} in seconds, and
+ * {@code mix}, operation weights such as {@code availability=50,quote=30,book=14,cancel=5,report=1}.
+ * The same seed and options always produce the same data set and request sequence per thread.
+ *
+ * <p>Thread-model comparison: with {@code server=platform} each client thread hands its
+ * request to a fixed pool of {@code server-threads} platform threads (Tomcat's default is
+ * 200), with {@code server=virtual} to a virtual thread per request (Java 21+).
+ * {@code payment-latency} in milliseconds makes every charge and refund block like a
+ * remote provider, and {@code payment-permits} puts a bulkhead in front of it:
+ *
+ * <pre>
+ * -Djmh.args="--threads=2000 --server=platform --payment-latency=200 --mix=availability=80,book=20"
+ * -Djmh.args="--threads=2000 --server=virtual --payment-latency=200 --payment-permits=100 --mix=availability=80,book=20"
+ * </pre>
+ */
+public final class LoadDriver {
+
+    enum Operation { AVAILABILITY, QUOTE, BOOK, CANCEL, REPORT }
+
+    private static final String DEFAULT_MIX = "availability=50,quote=30,book=14,cancel=5,report=1";
+
+    private final WorkloadGenerator workload;
+    private final AvailabilityService availabilityService;
+    private final PricingService pricingService;
+    private final DiscountService discountService;
+    private final BookingService bookingService;
+    private final ReportCache reportCache;
+    private final double[] mix;
+    private final ExecutorService server;
+    private final LocalDate today = LocalDate.now();
+
+    private LoadDriver(WorkloadGenerator workload, InMemoryRoomRepository rooms, InMemoryBookingRepository bookings,
+                       double[] mix, PaymentService paymentService, ExecutorService server) {
+        this.workload = workload;
+        this.mix = mix;
+        this.server = server;
+        this.availabilityService = new AvailabilityService(bookings);
+        this.pricingService = new PricingService(rooms);
+        this.discountService = new DiscountService(null);
+        this.reportCache = new ReportCache(new ReportService(bookings, rooms), Clock.systemDefaultZone());
+        this.bookingService = new BookingService(bookings, availabilityService,
+                paymentService, new BookingValidator(), pricingService, discountService,
+                new BenchData.SilentNotificationService(), new InvoiceService(),
+                new CancellationPolicyService(bookings, rooms), reportCache);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parse(args);
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        int rooms = Integer.parseInt(options.getOrDefault("rooms", "2000"));
+        int users = Integer.parseInt(options.getOrDefault("users", "200000"));
+        int bookings = Integer.parseInt(options.getOrDefault("bookings", "500000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+                String.valueOf(Runtime.getRuntime().availableProcessors())));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        double[] mix = parseMix(options.getOrDefault("mix", DEFAULT_MIX));
+        long paymentLatency = Long.parseLong(options.getOrDefault("payment-latency", "0"));
+        int paymentPermits = Integer.parseInt(options.getOrDefault("payment-permits", "0"));
+        ExecutorService server = server(options.getOrDefault("server", "none"),
+                Integer.parseInt(options.getOrDefault("server-threads", "200")));
+
+        PaymentService paymentService = new BenchData.ApprovingPaymentService();
+        if (paymentLatency > 0) {
+            paymentService = new BenchData.SlowPaymentService(paymentService, paymentLatency);
+        }
+        if (paymentPermits > 0) {
+            paymentService = new BulkheadPaymentService(paymentService,
+                    new Bulkhead("payment service", paymentPermits, Duration.ofSeconds(1)));
+        }
+
+        // a year of history and a year of future stays around today
+        WorkloadGenerator workload = new WorkloadGenerator(seed, rooms, users, LocalDate.now().minusDays(365), 730);
+        long loadStart = System.nanoTime();
+        InMemoryRoomRepository roomRepository = new InMemoryRoomRepository();
+        workload.rooms(0, rooms).forEach(roomRepository::save);
+        InMemoryBookingRepository bookingRepository = new InMemoryBookingRepository();
+        workload.bookings(0, bookings).forEach(bookingRepository::save);
+        System.out.printf("Loaded %,d rooms and %,d bookings in %,d ms%n", rooms, bookings,
+                (System.nanoTime() - loadStart) / 1_000_000);
+
+        LoadDriver driver = new LoadDriver(workload, roomRepository, bookingRepository, mix, paymentService, server);
+        driver.run(seed, threads, warmup, false);
+        Result result = driver.run(seed, threads, duration, true);
+        result.print(duration);
+        if (server != null) {
+            server.shutdownNow();
+        }
+    }
+
+    private static ExecutorService server(String mode, int threads) {
+        switch (mode) {
+            case "none" -> {
+                return null;
+            }
+            case "platform" -> {
+                return Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "server");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            case "virtual" -> {
+                // looked up reflectively so the benchmarks still compile for Java 17
+                try {
+                    return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException("server=virtual needs Java 21 or newer", e);
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown server mode " + mode);
+        }
+    }
+
+    private Result run(long seed, int threads, Duration duration, boolean measure) throws InterruptedException {
+        Result result = new Result();
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(threads);
+        SplittableRandom seeds = new SplittableRandom(seed);
+
+        for (int t = 0; t < threads; t++) {
+            SplittableRandom random = seeds.split();
+            Thread worker = new Thread(() -> {
+                try {
+                    Result local = new Result();
+                    Deque<String> created = new ArrayDeque<>();
+                    while (!stop.get()) {
+                        Operation operation = pick(random);
+                        long started = System.nanoTime();
+                        boolean accepted = serve(operation, random, created);
+                        local.record(operation, System.nanoTime() - started, accepted);
+                    }
+                    synchronized (result) {
+                        result.add(local);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        Thread.sleep(duration.toMillis());
+        stop.set(true);
+        done.await();
+        return measure ? result : null;
+    }
+
+    // Runs the operation on the server executor, if any, the way a request thread would
+    private boolean serve(Operation operation, SplittableRandom random, Deque<String> created) {
+        if (server == null) {
+            return execute(operation, random, created);
+        }
+        try {
+            return server.submit(() -> execute(operation, random, created)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Runs one operation; returns false when the service turned the request down.
+     */
+    private boolean execute(Operation operation, SplittableRandom random, Deque<String> created) {
+        switch (operation) {
+            case AVAILABILITY -> {
+                BookingRequest request = workload.request(random, today);
+                return availabilityService.isAvailable(request.roomId(), request.from(), request.to());
+            }
+            case QUOTE -> {
+                BookingRequest request = workload.request(random, today);
+                double price = pricingService.calculatePrice(request.roomId(), request.from(), request.to());
+                return discountService.applyDiscount(request.userId(), price) > 0;
+            }
+            case BOOK -> {
+                try {
+                    Booking booking = bookingService.createBooking(workload.request(random, today));
+                    created.addLast(booking.getId());
+                    return true;
+                } catch (IllegalArgumentException | BulkheadFullException e) {
+                    return false;
+                }
+            }
+            case CANCEL -> {
+                String id = created.pollFirst();
+                if (id == null) {
+                    return false;
+                }
+                try {
+                    bookingService.cancelBooking(id);
+                    return true;
+                } catch (BulkheadFullException e) {
+                    return false;
+                }
+            }
+            case REPORT -> {
+                YearMonth month = YearMonth.from(today).minusMonths(random.nextInt(2));
+                return reportCache.get(random.nextBoolean() ? ReportCache.Kind.MONTHLY : ReportCache.Kind.OCCUPANCY,
+                        month.getMonthValue(), month.getYear()) != null;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < mix.length; i++) {
+            if (roll < mix[i]) {
+                return Operation.values()[i];
+            }
+        }
+        return Operation.values()[mix.length - 1];
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    // cumulative shares in Operation order
+    private static double[] parseMix(String spec) {
+        double[] weights = new double[Operation.values().length];
+        for (String part : spec.split(",")) {
+            String[] pair = part.split("=");
+            weights[Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)).ordinal()] = Double.parseDouble(pair[1]);
+        }
+        double total = Arrays.stream(weights).sum();
+        if (total <= 0) {
+            throw new IllegalArgumentException("Mix must have a positive weight");
+        }
+        double running = 0;
+        for (int i = 0; i < weights.length; i++) {
+            running += weights[i];
+            weights[i] = running / total;
+        }
+        return weights;
+    }
+
+    private static final class Result {
+        private final LatencyHistogram[] latencies = new LatencyHistogram[Operation.values().length];
+        private final long[] rejected = new long[Operation.values().length];
+
+        Result() {
+            Arrays.setAll(latencies, i -> new LatencyHistogram());
+        }
+
+        void record(Operation operation, long nanos, boolean accepted) {
+            latencies[operation.ordinal()].record(nanos);
+            if (!accepted) {
+                rejected[operation.ordinal()]++;
+            }
+        }
+
+        void add(Result other) {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i].add(other.latencies[i]);
+                rejected[i] += other.rejected[i];
+            }
+        }
+
+        void print(Duration duration) {
+            double seconds = duration.toMillis() / 1000.0;
+            System.out.printf("%-13s %12s %10s %9s %9s %9s %9s %9s %9s%n",
+                    "Operation", "Ops", "Ops/s", "Rejected", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us");
+            LatencyHistogram all = new LatencyHistogram();
+            for (Operation operation : Operation.values()) {
+                LatencyHistogram histogram = latencies[operation.ordinal()];
+                all.add(histogram);
+                if (histogram.count() > 0) {
+                    print(operation.name().toLowerCase(Locale.ROOT), histogram, rejected[operation.ordinal()], seconds);
+                }
+            }
+            print("total", all, Arrays.stream(rejected).sum(), seconds);
+        }
+
+        private static void print(String name, LatencyHistogram histogram, long rejected, double seconds) {
+            System.out.printf("%-13s %,12d %,10.0f %,9d %9.1f %9.1f %9.1f %9.1f %9.1f%n", name, histogram.count(),
+                    histogram.count() / seconds, rejected, histogram.percentile(0.5) / 1e3,
+                    histogram.percentile(0.9) / 1e3, histogram.percentile(0.99) / 1e3,
+                    histogram.percentile(0.999) / 1e3, histogram.max() / 1e3);
+        }
+    }
+}
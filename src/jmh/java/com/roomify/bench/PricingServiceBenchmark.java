@@ -0,0 +1,39 @@
+package com.roomify.bench;
+
+import com.roomify.core.service.PricingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PricingServiceBenchmark {
+
+    private static final int ROOMS = 500;
+
+    @Param({"1", "7", "30"})
+    public int nights;
+
+    private PricingService pricingService;
+    private LocalDate start;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        pricingService = new PricingService(BenchData.rooms(ROOMS));
+        start = LocalDate.now().plusDays(1);
+        random = new SplittableRandom(7);
+    }
+
+    @Benchmark
+    public double calculatePrice() {
+        LocalDate from = start.plusDays(random.nextInt(365));
+        return pricingService.calculatePrice(BenchData.roomId(random.nextInt(ROOMS)), from, from.plusDays(nights));
+    }
+}
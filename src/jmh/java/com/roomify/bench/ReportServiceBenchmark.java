@@ -0,0 +1,36 @@
+package com.roomify.bench;
+
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.service.ReportService;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReportServiceBenchmark {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    @Param({"100000", "1000000"})
+    public int bookingsPerMonth;
+
+    private ReportService reportService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        InMemoryBookingRepository repository = BenchData.bookings(bookingsPerMonth,
+                Math.max(10, bookingsPerMonth / 10), JUNE_1, 29, 42);
+        reportService = new ReportService(repository, null);
+    }
+
+    @Benchmark
+    public String monthlyReport() {
+        return reportService.monthlyReport(6, 2025);
+    }
+}
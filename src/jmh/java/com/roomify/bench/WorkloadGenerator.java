@@ -0,0 +1,179 @@
+package com.roomify.bench;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.BookingRequest;
+import com.roomify.core.dto.Room;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic synthetic data at production scale: rooms, users and bookings whose
+ * shape follows what the reports see in practice.
+ *
+ * <ul>
+ *   <li>Room types are mostly doubles and singles with a tail of suites and penthouses,
+ *       each priced around its type's base rate.</li>
+ *   <li>Customers follow a power law: a small share of users makes most bookings.</li>
+ *   <li>Check-ins follow the season (summer peak, winter trough), Friday and Saturday
+ *       arrivals and the Christmas and New Year weeks.</li>
+ *   <li>Stays are mostly one to three nights with a weekly bump and a long tail to 30.</li>
+ *   <li>Live requests book ahead by a mix of last-minute and planned lead times.</li>
+ * </ul>
+ *
+ * <p>Every item is derived from the seed and its own index only, so any slice of the data
+ * set can be regenerated, in any order or in parallel, and comes out identical.
+ */
+public final class WorkloadGenerator {
+
+    private static final String[] ROOM_TYPES = {"single", "double", "suite", "penthouse"};
+    private static final double[] ROOM_TYPE_SHARES = {0.30, 0.45, 0.20, 0.05};
+    private static final double[] ROOM_TYPE_RATES = {80, 120, 300, 800};
+
+    private static final int[] STAY_NIGHTS = {1, 2, 3, 4, 5, 6, 7, 10, 14, 21, 30};
+    private static final double[] STAY_SHARES = {0.22, 0.25, 0.18, 0.10, 0.07, 0.05, 0.08, 0.02, 0.02, 0.007, 0.003};
+
+    private static final double USER_SKEW = 2.5;
+
+    private final long seed;
+    private final int rooms;
+    private final int users;
+    private final LocalDate start;
+    private final double[] checkInCumulative;
+    private final double[] roomTypeCumulative;
+    private final double[] stayCumulative;
+
+    public WorkloadGenerator(long seed, int rooms, int users, LocalDate start, int days) {
+        if (rooms < 1 || users < 1 || days < 1) {
+            throw new IllegalArgumentException("Rooms, users and days must be positive");
+        }
+        this.seed = seed;
+        this.rooms = rooms;
+        this.users = users;
+        this.start = start;
+        this.checkInCumulative = cumulative(checkInWeights(start, days));
+        this.roomTypeCumulative = cumulative(ROOM_TYPE_SHARES);
+        this.stayCumulative = cumulative(STAY_SHARES);
+    }
+
+    public int rooms() {
+        return rooms;
+    }
+
+    public Room room(int index) {
+        SplittableRandom random = random(1, index);
+        int type = pick(roomTypeCumulative, random);
+        double rate = ROOM_TYPE_RATES[type] * (0.8 + 0.4 * random.nextDouble());
+        return new Room(roomId(index), ROOM_TYPES[type], type >= 2 ? 4 : 2, Math.round(rate));
+    }
+
+    public Stream<Room> rooms(int from, int to) {
+        return IntStream.range(from, to).mapToObj(this::room);
+    }
+
+    public Booking booking(int index) {
+        SplittableRandom random = random(2, index);
+        LocalDate from = start.plusDays(pick(checkInCumulative, random));
+        int nights = STAY_NIGHTS[pick(stayCumulative, random)];
+        int room = random.nextInt(rooms);
+        double nightly = room(room).getBasePrice() * seasonFactor(from);
+        return new Booking("g" + index, roomId(room), userId(user(random)), from, from.plusDays(nights),
+                Math.round(nights * nightly * 100) / 100.0);
+    }
+
+    /**
+     * Bookings {@code from} (inclusive) to {@code to} (exclusive); parallel streams are fine.
+     */
+    public Stream<Booking> bookings(int from, int to) {
+        return IntStream.range(from, to).mapToObj(this::booking);
+    }
+
+    /**
+     * A live booking request made on {@code today}: 40% last-minute (about a week ahead),
+     * the rest planned (about six weeks ahead), capped at the 365-day booking horizon.
+     */
+    public BookingRequest request(SplittableRandom random, LocalDate today) {
+        double meanLead = random.nextDouble() < 0.4 ? 7 : 45;
+        int lead = (int) Math.min(365, -meanLead * Math.log(1 - random.nextDouble()));
+        LocalDate from = today.plusDays(lead);
+        int nights = STAY_NIGHTS[pick(stayCumulative, random)];
+        return new BookingRequest(roomId(random.nextInt(rooms)), userId(user(random)), from, from.plusDays(nights));
+    }
+
+    public String randomRoomId(SplittableRandom random) {
+        return roomId(random.nextInt(rooms));
+    }
+
+    public String randomUserId(SplittableRandom random) {
+        return userId(user(random));
+    }
+
+    static String roomId(int index) {
+        return "room-" + index;
+    }
+
+    static String userId(int index) {
+        return "user-" + index;
+    }
+
+    private int user(SplittableRandom random) {
+        return (int) (users * Math.pow(random.nextDouble(), USER_SKEW));
+    }
+
+    private SplittableRandom random(long stream, long index) {
+        // one generator per item: the same seed and index always give the same item
+        return new SplittableRandom(mix(seed ^ mix(stream * 0x9E3779B97F4A7C15L + index)));
+    }
+
+    private static double[] checkInWeights(LocalDate start, int days) {
+        double[] weights = new double[days];
+        for (int day = 0; day < days; day++) {
+            LocalDate date = start.plusDays(day);
+            double weight = seasonFactor(date);
+            DayOfWeek dayOfWeek = date.getDayOfWeek();
+            if (dayOfWeek == DayOfWeek.FRIDAY || dayOfWeek == DayOfWeek.SATURDAY) {
+                weight *= 1.4;
+            }
+            MonthDay monthDay = MonthDay.from(date);
+            if (!monthDay.isBefore(MonthDay.of(12, 22)) || monthDay.isBefore(MonthDay.of(1, 2))) {
+                weight *= 1.8;
+            }
+            weights[day] = weight;
+        }
+        return weights;
+    }
+
+    // peaks in mid-July at 1.4, bottoms out in mid-January at 0.6
+    private static double seasonFactor(LocalDate date) {
+        return 1.0 + 0.4 * Math.sin(2 * Math.PI * (date.getDayOfYear() - 105) / 365.0);
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static int pick(double[] cumulative, SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(cumulative.length - 1, index >= 0 ? index : -index - 1);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,7 +1,11 @@
 package com.roomify;
 
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
 public class RoomifyApplication {
     public static void main(String[] args) {
-        System.out.println("Roomify skeleton - run tests with Maven");
+        SpringApplication.run(RoomifyApplication.class, args);
     }
 }
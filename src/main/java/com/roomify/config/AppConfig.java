@@ -1,5 +1,190 @@
 package com.roomify.config;
 
+import com.roomify.core.analytics.ColumnarBookingStore;
+import com.roomify.core.bulkhead.Bulkhead;
+import com.roomify.core.bulkhead.BulkheadBookingRepository;
+import com.roomify.core.bulkhead.BulkheadNotificationService;
+import com.roomify.core.bulkhead.BulkheadPaymentService;
+import com.roomify.core.metrics.BookingMetrics;
+import com.roomify.core.metrics.MicrometerBookingMetrics;
+import com.roomify.core.metrics.ReportMetrics;
+import com.roomify.core.repository.BookingRepository;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import com.roomify.core.repository.InMemoryUserRepository;
+import com.roomify.core.repository.RoomRepository;
+import com.roomify.core.repository.UserRepository;
+import com.roomify.core.service.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application wiring. Everything here is cheap to construct; state that is expensive to
+ * build (the daily aggregates, loaded from the bookings of their window) is loaded in the
+ * background, so it neither delays startup nor lands on the first request that needs it.
+ */
+@Configuration(proxyBeanMethods = false)
 public class AppConfig {
-    // puste - konfiguracja aplikacji (opcjonalnie)
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    // Single-node default; swap for JournalBookingRepository when bookings must survive restarts.
+    // Set roomify.bulkhead.repository.permits to the pool size when the store is a database.
+    @Bean
+    public BookingRepository bookingRepository(@Value("${roomify.bulkhead.repository.permits:0}") int permits,
+                                               @Value("${roomify.bulkhead.max-wait:PT1S}") Duration maxWait) {
+        BookingRepository repository = new InMemoryBookingRepository();
+        return permits > 0
+                ? new BulkheadBookingRepository(repository, new Bulkhead("booking repository", permits, maxWait))
+                : repository;
+    }
+
+    @Bean
+    public RoomRepository roomRepository() {
+        return new InMemoryRoomRepository();
+    }
+
+    @Bean
+    public UserRepository userRepository() {
+        return new InMemoryUserRepository();
+    }
+
+    @Bean
+    public BookingMetrics bookingMetrics(MeterRegistry meterRegistry) {
+        return new MicrometerBookingMetrics(meterRegistry);
+    }
+
+    @Bean
+    public AvailabilityService availabilityService(BookingRepository bookingRepository) {
+        return new AvailabilityService(bookingRepository);
+    }
+
+    @Bean
+    public PricingService pricingService(RoomRepository roomRepository) {
+        return new PricingService(roomRepository);
+    }
+
+    @Bean
+    public AvailabilitySearchService availabilitySearchService(RoomRepository roomRepository,
+                                                               AvailabilityService availabilityService,
+                                                               PricingService pricingService) {
+        return new AvailabilitySearchService(roomRepository, availabilityService, pricingService);
+    }
+
+    @Bean
+    public DiscountService discountService(UserRepository userRepository) {
+        return new DiscountService(userRepository);
+    }
+
+    @Bean
+    public CancellationPolicyService cancellationPolicyService(BookingRepository bookingRepository,
+                                                               RoomRepository roomRepository, Clock clock) {
+        return new CancellationPolicyService(bookingRepository, roomRepository, clock);
+    }
+
+    @Bean
+    public PaymentService paymentService(@Value("${roomify.bulkhead.payment.permits:50}") int permits,
+                                         @Value("${roomify.bulkhead.max-wait:PT1S}") Duration maxWait) {
+        return new BulkheadPaymentService(new PayAtPropertyPaymentService(),
+                new Bulkhead("payment service", permits, maxWait));
+    }
+
+    @Bean
+    public NotificationService notificationService(@Value("${roomify.bulkhead.notification.permits:20}") int permits,
+                                                   @Value("${roomify.bulkhead.max-wait:PT1S}") Duration maxWait) {
+        return new BulkheadNotificationService(new LoggingNotificationService(),
+                new Bulkhead("notification service", permits, maxWait));
+    }
+
+    @Bean
+    public RoomService roomService(RoomRepository roomRepository, RoomInventoryService roomInventoryService,
+                                   ReportCache reportCache,
+                                   @Value("${roomify.rooms.cache.max-entries:10000}") int maxEntries) {
+        return new RoomService(roomRepository, roomInventoryService, reportCache, maxEntries);
+    }
+
+    @Bean
+    public UserService userService(UserRepository userRepository) {
+        return new UserService(userRepository);
+    }
+
+    @Bean
+    public RoomInventoryService roomInventoryService(RoomRepository roomRepository) {
+        return new RoomInventoryService(roomRepository);
+    }
+
+    // Ranges outside the window are answered by scanning bookings, as before the store existed
+    @Bean
+    public DailyAggregateStore dailyAggregateStore(BookingRepository bookingRepository, Clock clock,
+                                                   @Value("${roomify.aggregates.past-days:730}") int pastDays,
+                                                   @Value("${roomify.aggregates.future-days:1095}") int futureDays) {
+        LocalDate today = LocalDate.now(clock);
+        DailyAggregateStore store = new DailyAggregateStore(today.minusDays(pastDays), today.plusDays(futureDays));
+        store.loadInBackground(() -> bookingRepository.streamInRange(store.windowStart(), store.windowEnd()));
+        return store;
+    }
+
+    // Ad-hoc analytics over the bookings of the last past-days and everything bookable ahead
+    @Bean
+    public ColumnarBookingStore columnarBookingStore(RoomRepository roomRepository, BookingRepository bookingRepository,
+                                                     Clock clock,
+                                                     @Value("${roomify.analytics.past-days:1095}") int pastDays) {
+        LocalDate today = LocalDate.now(clock);
+        ColumnarBookingStore store = new ColumnarBookingStore(roomRepository, clock);
+        store.loadInBackground(() -> bookingRepository.streamInRange(today.minusDays(pastDays),
+                today.plusYears(2)));
+        return store;
+    }
+
+    @Bean
+    public ReportService reportService(BookingRepository bookingRepository, RoomRepository roomRepository, Clock clock,
+                                       DailyAggregateStore dailyAggregateStore,
+                                       RoomInventoryService roomInventoryService) {
+        return new ReportService(bookingRepository, roomRepository, clock, dailyAggregateStore, roomInventoryService);
+    }
+
+    @Bean
+    public ReportCache reportCache(ReportService reportService, Clock clock) {
+        return new ReportCache(reportService, clock);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReportPrecomputeScheduler reportPrecomputeScheduler(ReportCache reportCache, Clock clock) {
+        return new ReportPrecomputeScheduler(reportCache, clock);
+    }
+
+    @Bean
+    public ReportMetrics reportMetrics(ReportCache reportCache, ReportService reportService,
+                                       ReportPrecomputeScheduler reportPrecomputeScheduler) {
+        return new ReportMetrics(reportCache, reportService, reportPrecomputeScheduler);
+    }
+
+    @Bean
+    public BookingService bookingService(BookingRepository bookingRepository,
+                                         AvailabilityService availabilityService,
+                                         PaymentService paymentService,
+                                         PricingService pricingService,
+                                         DiscountService discountService,
+                                         NotificationService notificationService,
+                                         CancellationPolicyService cancellationPolicyService,
+                                         ReportCache reportCache,
+                                         DailyAggregateStore dailyAggregateStore,
+                                         ColumnarBookingStore columnarBookingStore,
+                                         BookingMetrics bookingMetrics) {
+        // events that race the stores' background loads win over what the load reads
+        BookingEventListener listeners = BookingEventListener.composite(List.of(reportCache, dailyAggregateStore,
+                columnarBookingStore));
+        return new BookingService(bookingRepository, availabilityService, paymentService, new BookingValidator(),
+                pricingService, discountService, notificationService, new InvoiceService(),
+                cancellationPolicyService, listeners, bookingMetrics);
+    }
 }
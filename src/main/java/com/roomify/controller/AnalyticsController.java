@@ -0,0 +1,66 @@
+package com.roomify.controller;
+
+import com.roomify.core.analytics.BookingQuery;
+import com.roomify.core.analytics.ColumnarBookingStore;
+import com.roomify.core.analytics.Dimension;
+import com.roomify.core.analytics.GroupResult;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final ColumnarBookingStore store;
+
+    public AnalyticsController(ColumnarBookingStore store) {
+        this.store = store;
+    }
+
+    // GET /api/analytics/bookings?from=2025-01-01&to=2026-01-01&roomType=suite&groupBy=weekday&limit=10
+    @GetMapping("/bookings")
+    public ResponseEntity<List<GroupResult>> bookings(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String room,
+            @RequestParam(required = false) String roomType,
+            @RequestParam(required = false) String customer,
+            @RequestParam(defaultValue = "none") String groupBy,
+            @RequestParam(required = false) Integer limit) {
+        if (!store.isReady()) {
+            // still loading at startup; a partial answer would look like real totals
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        BookingQuery query = store.query().groupBy(dimension(groupBy)).room(room).roomType(roomType).customer(customer);
+        if ((from == null) != (to == null)) {
+            throw new IllegalArgumentException("Give both from and to, or neither");
+        }
+        if (from != null) {
+            query.checkInBetween(from, to);
+        }
+        if (limit != null) {
+            query.limit(limit);
+        }
+        return ResponseEntity.ok(query.run());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private static Dimension dimension(String name) {
+        try {
+            return Dimension.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported groupBy: " + name);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.roomify.controller;
+
+import com.roomify.core.exception.BulkheadFullException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class ApiExceptionHandler {
+
+    // A saturated downstream sheds load instead of queueing; clients retry shortly
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<String> busy(BulkheadFullException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package com.roomify.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roomify.core.dto.RoomQuote;
+import com.roomify.core.service.AvailabilitySearchService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    private final AvailabilitySearchService searchService;
+    private final ObjectMapper objectMapper;
+
+    public AvailabilityController(AvailabilitySearchService searchService, ObjectMapper objectMapper) {
+        this.searchService = searchService;
+        this.objectMapper = objectMapper;
+    }
+
+    // GET /api/availability/search?from=2026-11-01&to=2026-11-03&capacity=2&type=double&cursor=...
+    @GetMapping("/search")
+    public ResponseEntity<StreamingResponseBody> search(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "1") int capacity,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit) {
+        // search before the body starts streaming; after that the status is already sent
+        RoomQuote.Page page = searchService.search(from, to, capacity, type, cursor, limit);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(outputStream)) {
+                json.writeStartObject();
+                json.writeArrayFieldStart("rooms");
+                for (RoomQuote quote : page.rooms()) {
+                    json.writeStartObject();
+                    json.writeStringField("roomId", quote.roomId());
+                    json.writeStringField("type", quote.type());
+                    json.writeNumberField("capacity", quote.capacity());
+                    json.writeNumberField("price", quote.price());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                json.writeStringField("nextCursor", page.nextCursor());
+                json.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
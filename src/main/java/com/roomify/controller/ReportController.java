@@ -0,0 +1,184 @@
+package com.roomify.controller;
+
+import com.roomify.core.dto.MonthlyMetrics;
+import com.roomify.core.dto.RoomPerformance;
+import com.roomify.core.report.MonthlyMetricsCodec;
+import com.roomify.core.report.ReportFormat;
+import com.roomify.core.report.ReportWriter;
+import com.roomify.core.service.ReportCache;
+import com.roomify.core.service.ReportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController {
+
+    private static final int MAX_METRIC_MONTHS = 120;
+    private static final int MAX_ROOMS_PAGE_SIZE = 1000;
+
+    private final ReportService reportService;
+    private final ReportCache reportCache;
+
+    public ReportController(ReportService reportService, ReportCache reportCache) {
+        this.reportService = reportService;
+        this.reportCache = reportCache;
+    }
+
+    @GetMapping("/monthly/{year}/{month}")
+    public ResponseEntity<StreamingResponseBody> monthly(@PathVariable int year, @PathVariable int month,
+                                                         @RequestParam(defaultValue = "text") String format,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                         String ifNoneMatch) {
+        // validate before the body starts streaming; after that the status is already sent
+        if (month < 1 || month > 12 || year < 2000 || year > 3000) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month or year");
+        }
+        ReportFormat reportFormat = ReportFormat.parse(format);
+        String etag = reportCache.etag(ReportCache.Kind.MONTHLY, month, year, reportFormat.name().toLowerCase());
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        if (reportFormat == ReportFormat.TEXT) {
+            return cached(reportCache.monthlyReport(month, year));
+        }
+        return stream(ResponseEntity.ok().eTag(etag), reportFormat,
+                out -> reportService.exportMonthlyReport(month, year, out));
+    }
+
+    @GetMapping("/occupancy/{year}/{month}")
+    public ResponseEntity<StreamingResponseBody> occupancy(@PathVariable int year, @PathVariable int month,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                           String ifNoneMatch) {
+        if (month < 1 || month > 12 || year < 2000 || year > 3000) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month or year");
+        }
+        String etag = reportCache.etag(ReportCache.Kind.OCCUPANCY, month, year, "text");
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return cached(reportCache.occupancyReport(month, year));
+    }
+
+    @GetMapping("/rooms/{year}/{month}")
+    public ResponseEntity<StreamingResponseBody> rooms(@PathVariable int year, @PathVariable int month,
+                                                       @RequestParam(defaultValue = "revenue") String sort,
+                                                       @RequestParam(defaultValue = "0") int page,
+                                                       @RequestParam(defaultValue = "50") int size,
+                                                       @RequestParam(defaultValue = "text") String format) {
+        if (month < 1 || month > 12 || page < 0 || size < 1 || size > MAX_ROOMS_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month or page");
+        }
+        RoomPerformance.Sort order = RoomPerformance.Sort.parse(sort);
+        return stream(ReportFormat.parse(format),
+                out -> reportService.exportAllRoomsPerformance(month, year, order, page, size, out));
+    }
+
+    @GetMapping("/yearly/{year}")
+    public ResponseEntity<StreamingResponseBody> yearly(@PathVariable int year,
+                                                        @RequestParam(defaultValue = "text") String format) {
+        return stream(ReportFormat.parse(format), out -> reportService.exportYearlyReport(year, out));
+    }
+
+    @GetMapping("/bookings")
+    public ResponseEntity<StreamingResponseBody> bookings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+        if (!from.isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid date range");
+        }
+        return stream(ReportFormat.parse(format), out -> reportService.exportBookings(from, to, out));
+    }
+
+    @GetMapping(value = "/metrics", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> metricsJson(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                              @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(MonthlyMetricsCodec.toJson(metrics(from, to)));
+    }
+
+    @GetMapping(value = "/metrics", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> metricsBinary(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        return ResponseEntity.ok(MonthlyMetricsCodec.encode(metrics(from, to)));
+    }
+
+    @GetMapping("/customers")
+    public ResponseEntity<StreamingResponseBody> customers(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                           @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+                                                           @RequestParam(defaultValue = "text") String format) {
+        if (from.isAfter(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid month range");
+        }
+        checkMonthCount(from, to);
+        return stream(ReportFormat.parse(format), out -> reportService.exportCustomerReport(from, to, out));
+    }
+
+    // Raw sketch for merging with other nodes' sketches of the same months
+    @GetMapping(value = "/customers/sketch", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> customerSketch(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                 @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        checkMonthCount(from, to);
+        return ResponseEntity.ok(reportService.customerSketch(from, to).toBytes());
+    }
+
+    private List<MonthlyMetrics> metrics(YearMonth from, YearMonth to) {
+        checkMonthCount(from, to);
+        return reportService.monthlyMetrics(from, to);
+    }
+
+    private static void checkMonthCount(YearMonth from, YearMonth to) {
+        if (from.plusMonths(MAX_METRIC_MONTHS).isBefore(to)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_METRIC_MONTHS + " months per request");
+        }
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> badRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(ReportFormat format, Export export) {
+        return stream(ResponseEntity.ok(), format, export);
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(ResponseEntity.BodyBuilder response, ReportFormat format,
+                                                         Export export) {
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 16 * 1024);
+            export.writeTo(format.open(writer));
+            writer.flush();
+        };
+        return response
+                .contentType(MediaType.parseMediaType(format.contentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> cached(ReportCache.CachedReport report) {
+        byte[] body = report.body().getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .eTag(report.etag())
+                .contentType(MediaType.parseMediaType(ReportFormat.TEXT.contentType() + ";charset=UTF-8"))
+                .body(outputStream -> outputStream.write(body));
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        void writeTo(ReportWriter out) throws IOException;
+    }
+}
@@ -1,15 +1,94 @@
 package com.roomify.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.roomify.core.dto.Room;
 import com.roomify.core.service.RoomService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/rooms")
 public class RoomController {
 
+    // Rooms change rarely; clients and CDNs reuse a copy this long, then revalidate by ETag
+    private static final CacheControl ROOM_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic().mustRevalidate();
+    private static final int MAX_IDS = 1000;
+
     private final RoomService roomService;
-    public RoomController(RoomService roomService) { this.roomService = roomService; }
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter roomWriter;
+
+    public RoomController(RoomService roomService, ObjectMapper objectMapper) {
+        this.roomService = roomService;
+        this.objectMapper = objectMapper;
+        // one flush at the end of the array, not one per room
+        this.roomWriter = objectMapper.writerFor(Room.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // GET /api/rooms?ids=a,b,c - known rooms in request order, unknown ids skipped
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> list(@RequestParam List<String> ids) {
+        return rooms(ids);
+    }
+
+    // Same as the GET, for id lists too long for a URL
+    @PostMapping("/batch")
+    public ResponseEntity<StreamingResponseBody> batch(@RequestBody List<String> ids) {
+        return rooms(ids);
+    }
 
     @GetMapping("/{id}")
-    public Object get(@PathVariable String id) { return roomService.getRoom(id); }
+    public ResponseEntity<Room> get(@PathVariable String id,
+                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                    String ifNoneMatch) {
+        RoomService.CachedRoom cached = roomService.cachedRoom(id);
+        if (ETags.matches(ifNoneMatch, cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .cacheControl(ROOM_CACHE_CONTROL)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(ROOM_CACHE_CONTROL)
+                .body(cached.room());
+    }
+
+    private ResponseEntity<StreamingResponseBody> rooms(List<String> ids) {
+        LinkedHashSet<String> unique = new LinkedHashSet<>(ids);
+        if (unique.isEmpty() || unique.size() > MAX_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Between 1 and " + MAX_IDS + " ids per request");
+        }
+        // resolve before the body starts streaming; after that the status is already sent
+        List<Room> rooms = roomService.getRooms(unique);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator json = objectMapper.getFactory().createGenerator(outputStream)) {
+                json.writeStartArray();
+                for (Room room : rooms) {
+                    roomWriter.writeValue(json, room);
+                }
+                json.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> notFound(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+    }
 }
@@ -0,0 +1,112 @@
+package com.roomify.core.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filter and group-by over a {@link ColumnarBookingStore}. All filters are optional and
+ * combined with AND; ranges are half-open.
+ *
+ * <pre>
+ * store.query()
+ *      .checkInBetween(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1))
+ *      .roomType("suite")
+ *      .groupBy(Dimension.WEEKDAY)
+ *      .run();
+ * </pre>
+ */
+public final class BookingQuery {
+
+    private final ColumnarBookingStore store;
+
+    int checkInFrom = Integer.MIN_VALUE;
+    int checkInTo = Integer.MAX_VALUE;
+    int minStay = 0;
+    int maxStay = Integer.MAX_VALUE;
+    int minLead = Integer.MIN_VALUE;
+    int maxLead = Integer.MAX_VALUE;
+    boolean leadTimeFiltered;
+    int weekdayMask = 0x7F;
+    String roomId;
+    String roomType;
+    String customerId;
+    Dimension groupBy = Dimension.NONE;
+    int limit = Integer.MAX_VALUE;
+
+    BookingQuery(ColumnarBookingStore store) {
+        this.store = store;
+    }
+
+    public BookingQuery checkInBetween(LocalDate from, LocalDate to) {
+        this.checkInFrom = (int) from.toEpochDay();
+        this.checkInTo = (int) to.toEpochDay();
+        return this;
+    }
+
+    public BookingQuery stayLengthBetween(int minNights, int maxNightsExclusive) {
+        this.minStay = minNights;
+        this.maxStay = maxNightsExclusive;
+        return this;
+    }
+
+    /**
+     * Bookings whose lead time is unknown (loaded rather than booked through the service)
+     * never match a lead time filter.
+     */
+    public BookingQuery leadTimeBetween(int minDays, int maxDaysExclusive) {
+        this.minLead = minDays;
+        this.maxLead = maxDaysExclusive;
+        this.leadTimeFiltered = true;
+        return this;
+    }
+
+    public BookingQuery weekdays(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        this.weekdayMask = mask;
+        return this;
+    }
+
+    public BookingQuery room(String roomId) {
+        this.roomId = roomId;
+        return this;
+    }
+
+    public BookingQuery roomType(String roomType) {
+        this.roomType = roomType;
+        return this;
+    }
+
+    public BookingQuery customer(String customerId) {
+        this.customerId = customerId;
+        return this;
+    }
+
+    public BookingQuery groupBy(Dimension dimension) {
+        this.groupBy = dimension;
+        return this;
+    }
+
+    /**
+     * Keeps only the {@code groups} groups with the highest revenue.
+     */
+    public BookingQuery limit(int groups) {
+        if (groups < 0) {
+            throw new IllegalArgumentException("Limit must not be negative");
+        }
+        this.limit = groups;
+        return this;
+    }
+
+    /**
+     * Groups ordered by revenue, highest first. Without a group-by there is one group
+     * keyed "all".
+     */
+    public List<GroupResult> run() {
+        return store.execute(this);
+    }
+}
@@ -0,0 +1,558 @@
+package com.roomify.core.analytics;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.RoomRepository;
+import com.roomify.core.service.BookingEventListener;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Column-oriented copy of the bookings for ad-hoc analytics, kept alongside the
+ * repository and fed the same booking events.
+ *
+ * <p>Every booking is a row across primitive columns: check-in, check-out and booked-on
+ * as epoch days, room and customer as dictionary codes, price as cents. A query scans
+ * the columns in chunks on the fork/join pool and aggregates into per-chunk int-keyed
+ * tables, so it touches no objects per row. Room types come from the room repository,
+ * looked up once per room and before the write lock is taken.
+ *
+ * <p>Cancelled or replaced bookings are tombstoned, and the columns are compacted once
+ * tombstones outnumber live rows. Lead time is only known for bookings that arrived as
+ * events; rows loaded in bulk have none.
+ */
+public class ColumnarBookingStore implements BookingEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ColumnarBookingStore.class);
+
+    static final int UNKNOWN_DAY = Integer.MIN_VALUE;
+
+    private static final int SCAN_CHUNK = 1 << 16;
+    private static final int LOAD_BATCH = 4096;
+    private static final int MIN_CAPACITY = 1024;
+    // compaction is O(rows), so it waits until tombstones outnumber live rows
+    private static final int MIN_TOMBSTONES_TO_COMPACT = 4096;
+    private static final int NO_FILTER = -2;
+    private static final int ALL_WEEKDAYS = 0x7F;
+    private static final int UNKNOWN_LEAD_KEY = Integer.MAX_VALUE;
+    private static final String UNKNOWN = "unknown";
+    // dense per-chunk tables above this many slots in total switch to key partitioning
+    private static final long DENSE_SLOTS_PER_QUERY = 1 << 20;
+
+    private final RoomRepository roomRepository;
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, String> typeByRoomId = new ConcurrentHashMap<>();
+    // ids saved or cancelled by events while a load runs; the load must not overwrite them
+    private final Set<String> changedDuringLoad = new HashSet<>();
+    private boolean loading;
+
+    private final Dictionary rooms = new Dictionary();
+    private final Dictionary customers = new Dictionary();
+    private final Dictionary roomTypes = new Dictionary();
+    private final RowIndex rowsById = new RowIndex();
+    private int[] typeByRoom = new int[64];
+
+    private int[] checkIn = new int[MIN_CAPACITY];
+    private int[] checkOut = new int[MIN_CAPACITY];
+    private int[] bookedOn = new int[MIN_CAPACITY];
+    private int[] room = new int[MIN_CAPACITY];
+    private int[] customer = new int[MIN_CAPACITY];
+    private long[] cents = new long[MIN_CAPACITY];
+    private final BitSet deleted = new BitSet();
+    private int rows;
+    private int liveRows;
+
+    public ColumnarBookingStore(RoomRepository roomRepository) {
+        this(roomRepository, Clock.systemDefaultZone());
+    }
+
+    public ColumnarBookingStore(RoomRepository roomRepository, Clock clock) {
+        this.roomRepository = roomRepository;
+        this.clock = clock;
+    }
+
+    /**
+     * Appends existing bookings, e.g. from {@code BookingRepository.streamInRange}. Their
+     * lead time is unknown. The write lock is taken per batch, so queries and booking
+     * events interleave with a long load; events win over what the stream returns.
+     */
+    public void load(Stream<Booking> bookings) {
+        startLoading();
+        runLoad(bookings);
+    }
+
+    /**
+     * Runs {@link #load} on a background thread; {@link #isReady} turns true once it is done.
+     */
+    public void loadInBackground(Supplier<Stream<Booking>> bookings) {
+        startLoading();
+        Thread thread = new Thread(() -> {
+            try (Stream<Booking> stream = bookings.get()) {
+                runLoad(stream);
+                log.info("Columnar booking store loaded with {} bookings", size());
+            } catch (RuntimeException e) {
+                log.error("Loading the columnar booking store failed", e);
+            }
+        }, "columnar-store-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * False while a load is running or after one failed; queries would see partial data.
+     */
+    public boolean isReady() {
+        lock.readLock().lock();
+        try {
+            return !loading;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        int today = (int) LocalDate.now(clock).toEpochDay();
+        String type = booking.getRoomId() == null ? null : roomType(booking.getRoomId());
+        lock.writeLock().lock();
+        try {
+            if (loading && booking.getId() != null) {
+                changedDuringLoad.add(booking.getId());
+            }
+            upsert(booking, today, type);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onBookingCancelled(Booking booking) {
+        if (booking.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                changedDuringLoad.add(booking.getId());
+            }
+            tombstone(rowsById.get(booking.getId()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveRows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public BookingQuery query() {
+        return new BookingQuery(this);
+    }
+
+    List<GroupResult> execute(BookingQuery query) {
+        lock.readLock().lock();
+        try {
+            int roomCode = filterCode(rooms, query.roomId);
+            int typeCode = filterCode(roomTypes, query.roomType);
+            int customerCode = filterCode(customers, query.customerId);
+            if (roomCode == Dictionary.MISSING || typeCode == Dictionary.MISSING || customerCode == Dictionary.MISSING) {
+                return new ArrayList<>();
+            }
+            RowFilter filter = new RowFilter(query, roomCode, typeCode, customerCode);
+
+            int cardinality = cardinality(query.groupBy);
+            int chunks = (rows + SCAN_CHUNK - 1) / SCAN_CHUNK;
+            ResultCollector results = new ResultCollector(query);
+
+            if (cardinality < 0) {
+                GroupTotals totals = IntStream.range(0, chunks).parallel()
+                        .mapToObj(chunk -> scanChunk(filter, chunk, new GroupTotals()))
+                        .reduce((left, right) -> {
+                            right.mergeInto(left);
+                            return left;
+                        })
+                        .orElseGet(GroupTotals::new);
+                for (int slot = 0; slot < totals.capacity(); slot++) {
+                    if (totals.occupied(slot)) {
+                        results.offer(totals.key(slot), totals.bookings(slot), totals.nights(slot), totals.cents(slot));
+                    }
+                }
+            } else if ((long) cardinality * chunks <= DENSE_SLOTS_PER_QUERY) {
+                // few groups: split the rows, every chunk gets the whole key space
+                DenseTotals totals = IntStream.range(0, chunks).parallel()
+                        .mapToObj(chunk -> scanChunk(filter, chunk, new DenseTotals(cardinality, 0, 1)))
+                        .reduce((left, right) -> {
+                            right.mergeInto(left);
+                            return left;
+                        })
+                        .orElseGet(() -> new DenseTotals(cardinality, 0, 1));
+                collectDense(totals, results);
+            } else {
+                // many groups (e.g. customers): split the keys, every partition scans all rows
+                int partitions = Integer.highestOneBit(Math.max(1, ForkJoinPool.getCommonPoolParallelism()));
+                List<DenseTotals> parts = IntStream.range(0, partitions).parallel()
+                        .mapToObj(partition -> scanAll(filter, new DenseTotals(cardinality, partition, partitions)))
+                        .collect(Collectors.toList());
+                for (DenseTotals part : parts) {
+                    collectDense(part, results);
+                }
+            }
+            return results.finish();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Scans run on pool threads while the caller holds the read lock, so no writer can interleave
+    private <T extends GroupSink> T scanChunk(RowFilter filter, int chunk, T sink) {
+        scan(filter, chunk * SCAN_CHUNK, Math.min(rows, (chunk + 1) * SCAN_CHUNK), sink);
+        return sink;
+    }
+
+    private DenseTotals scanAll(RowFilter filter, DenseTotals sink) {
+        scan(filter, 0, rows, sink);
+        return sink;
+    }
+
+    private void scan(RowFilter filter, int from, int to, GroupSink sink) {
+        int checkInFrom = filter.checkInFrom;
+        int checkInTo = filter.checkInTo;
+        int minStay = filter.minStay;
+        int maxStay = filter.maxStay;
+        boolean leadFiltered = filter.leadFiltered;
+        int minLead = filter.minLead;
+        int maxLead = filter.maxLead;
+        int weekdayMask = filter.weekdayMask;
+        int roomCode = filter.roomCode;
+        int typeCode = filter.typeCode;
+        int customerCode = filter.customerCode;
+        Dimension groupBy = filter.groupBy;
+
+        for (int row = deleted.nextClearBit(from); row < to; row = deleted.nextClearBit(row + 1)) {
+            int in = checkIn[row];
+            if (in < checkInFrom || in >= checkInTo) {
+                continue;
+            }
+            int nights = checkOut[row] - in;
+            if (nights < minStay || nights >= maxStay) {
+                continue;
+            }
+            if (weekdayMask != ALL_WEEKDAYS && (weekdayMask & 1 << weekday(in)) == 0) {
+                continue;
+            }
+            int roomOfRow = room[row];
+            if (roomCode != NO_FILTER && roomOfRow != roomCode) {
+                continue;
+            }
+            if (typeCode != NO_FILTER && typeByRoom[roomOfRow] != typeCode) {
+                continue;
+            }
+            if (customerCode != NO_FILTER && customer[row] != customerCode) {
+                continue;
+            }
+            int booked = bookedOn[row];
+            if (leadFiltered && (booked == UNKNOWN_DAY || in - booked < minLead || in - booked >= maxLead)) {
+                continue;
+            }
+
+            int key = switch (groupBy) {
+                case NONE -> 0;
+                case ROOM -> roomOfRow;
+                case ROOM_TYPE -> typeByRoom[roomOfRow];
+                case CUSTOMER -> customer[row];
+                case WEEKDAY -> weekday(in);
+                case STAY_LENGTH -> nights;
+                case LEAD_TIME -> booked == UNKNOWN_DAY ? UNKNOWN_LEAD_KEY : in - booked;
+            };
+            sink.add(key, nights, cents[row]);
+        }
+    }
+
+    // Number of possible keys for dimensions with a dense key space, -1 otherwise
+    private int cardinality(Dimension groupBy) {
+        return switch (groupBy) {
+            case NONE -> 1;
+            case ROOM -> rooms.size();
+            case ROOM_TYPE -> roomTypes.size();
+            case CUSTOMER -> customers.size();
+            case WEEKDAY -> 7;
+            case STAY_LENGTH, LEAD_TIME -> -1;
+        };
+    }
+
+    private static void collectDense(DenseTotals totals, ResultCollector results) {
+        for (int slot = 0; slot < totals.bookings.length; slot++) {
+            if (totals.bookings[slot] > 0) {
+                results.offer(totals.keyOf(slot), totals.bookings[slot], totals.nights[slot], totals.cents[slot]);
+            }
+        }
+    }
+
+    private String label(Dimension groupBy, int key) {
+        return switch (groupBy) {
+            case NONE -> "all";
+            case ROOM -> rooms.decode(key);
+            case ROOM_TYPE -> roomTypes.decode(key);
+            case CUSTOMER -> customers.decode(key);
+            case WEEKDAY -> DayOfWeek.of(key + 1).name();
+            case STAY_LENGTH -> String.valueOf(key);
+            case LEAD_TIME -> key == UNKNOWN_LEAD_KEY ? UNKNOWN : String.valueOf(key);
+        };
+    }
+
+    private void startLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            changedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void runLoad(Stream<Booking> bookings) {
+        boolean completed = false;
+        try {
+            List<Booking> batch = new ArrayList<>(LOAD_BATCH);
+            List<String> types = new ArrayList<>(LOAD_BATCH);
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                batch.add(booking);
+                types.add(booking.getRoomId() == null ? null : roomType(booking.getRoomId()));
+                if (batch.size() == LOAD_BATCH || !iterator.hasNext()) {
+                    appendLoaded(batch, types);
+                    batch.clear();
+                    types.clear();
+                }
+            }
+            completed = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // a failed load keeps the store marked as not ready
+                loading = !completed;
+                changedDuringLoad.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private void appendLoaded(List<Booking> batch, List<String> types) {
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                Booking booking = batch.get(i);
+                if (booking.getId() != null && !changedDuringLoad.contains(booking.getId())) {
+                    upsert(booking, UNKNOWN_DAY, types.get(i));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Resolved outside the write lock; a room keeps the type it had when first seen
+    private String roomType(String roomId) {
+        String type = typeByRoomId.get(roomId);
+        if (type == null) {
+            type = roomRepository == null ? UNKNOWN
+                    : roomRepository.findById(roomId).map(Room::getType).orElse(UNKNOWN);
+            String raced = typeByRoomId.putIfAbsent(roomId, type);
+            if (raced != null) {
+                type = raced;
+            }
+        }
+        return type;
+    }
+
+    private void upsert(Booking booking, int bookedOnDay, String roomType) {
+        if (booking.getId() == null || booking.getFrom() == null || booking.getTo() == null
+                || booking.getRoomId() == null) {
+            return;
+        }
+
+        int previous = rowsById.get(booking.getId());
+        if (previous != RowIndex.ABSENT && !deleted.get(previous)) {
+            // an update keeps the original booking date
+            if (bookedOnDay != UNKNOWN_DAY) {
+                bookedOnDay = bookedOn[previous];
+            }
+            tombstone(previous);
+        }
+
+        ensureCapacity(rows + 1);
+        int row = rows;
+        checkIn[row] = (int) booking.getFrom().toEpochDay();
+        checkOut[row] = (int) booking.getTo().toEpochDay();
+        bookedOn[row] = bookedOnDay;
+        room[row] = roomCode(booking.getRoomId(), roomType);
+        customer[row] = customers.encode(booking.getUserId() == null ? UNKNOWN : booking.getUserId());
+        cents[row] = Math.round(booking.getPrice() * 100);
+        rowsById.put(booking.getId(), row);
+        rows++;
+        liveRows++;
+    }
+
+    private void tombstone(int row) {
+        if (row != RowIndex.ABSENT && !deleted.get(row)) {
+            deleted.set(row);
+            liveRows--;
+            int tombstones = rows - liveRows;
+            if (tombstones >= MIN_TOMBSTONES_TO_COMPACT && tombstones > liveRows) {
+                compact();
+            }
+        }
+    }
+
+    // Moves the live rows down over the tombstones; caller holds the write lock
+    private void compact() {
+        int[] newRowOf = new int[rows];
+        int live = 0;
+        for (int row = 0; row < rows; row++) {
+            if (deleted.get(row)) {
+                newRowOf[row] = RowIndex.ABSENT;
+                continue;
+            }
+            newRowOf[row] = live;
+            checkIn[live] = checkIn[row];
+            checkOut[live] = checkOut[row];
+            bookedOn[live] = bookedOn[row];
+            room[live] = room[row];
+            customer[live] = customer[row];
+            cents[live] = cents[row];
+            live++;
+        }
+        rowsById.compact(newRowOf);
+        deleted.clear();
+        rows = live;
+        if (checkIn.length > 2 * Math.max(MIN_CAPACITY, live)) {
+            resize(Math.max(MIN_CAPACITY, live + (live >> 1)));
+        }
+    }
+
+    private int roomCode(String roomId, String type) {
+        int size = rooms.size();
+        int code = rooms.encode(roomId);
+        if (code == size) {
+            if (code == typeByRoom.length) {
+                typeByRoom = Arrays.copyOf(typeByRoom, code * 2);
+            }
+            typeByRoom[code] = roomTypes.encode(type == null ? UNKNOWN : type);
+        }
+        return code;
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= checkIn.length) {
+            return;
+        }
+        resize(Math.max(needed, checkIn.length + (checkIn.length >> 1)));
+    }
+
+    private void resize(int capacity) {
+        checkIn = Arrays.copyOf(checkIn, capacity);
+        checkOut = Arrays.copyOf(checkOut, capacity);
+        bookedOn = Arrays.copyOf(bookedOn, capacity);
+        room = Arrays.copyOf(room, capacity);
+        customer = Arrays.copyOf(customer, capacity);
+        cents = Arrays.copyOf(cents, capacity);
+    }
+
+    private static int filterCode(Dictionary dictionary, String value) {
+        return value == null ? NO_FILTER : dictionary.lookup(value);
+    }
+
+    // 0 = Monday, matching DayOfWeek; epoch day 0 was a Thursday
+    private static int weekday(int epochDay) {
+        return Math.floorMod(epochDay + 3, 7);
+    }
+
+    private static final class RowFilter {
+        final int checkInFrom;
+        final int checkInTo;
+        final int minStay;
+        final int maxStay;
+        final boolean leadFiltered;
+        final int minLead;
+        final int maxLead;
+        final int weekdayMask;
+        final int roomCode;
+        final int typeCode;
+        final int customerCode;
+        final Dimension groupBy;
+
+        RowFilter(BookingQuery query, int roomCode, int typeCode, int customerCode) {
+            this.checkInFrom = query.checkInFrom;
+            this.checkInTo = query.checkInTo;
+            this.minStay = query.minStay;
+            this.maxStay = query.maxStay;
+            this.leadFiltered = query.leadTimeFiltered;
+            this.minLead = query.minLead;
+            this.maxLead = query.maxLead;
+            this.weekdayMask = query.weekdayMask;
+            this.roomCode = roomCode;
+            this.typeCode = typeCode;
+            this.customerCode = customerCode;
+            this.groupBy = query.groupBy;
+        }
+    }
+
+    /**
+     * Orders groups by revenue. With a limit it keeps only the best {@code limit} groups in
+     * a min-heap, so labels are resolved and objects created for those alone.
+     */
+    private final class ResultCollector {
+        private final Dimension groupBy;
+        private final int limit;
+        private final PriorityQueue<long[]> heap;
+        private final List<long[]> all = new ArrayList<>();
+
+        ResultCollector(BookingQuery query) {
+            this.groupBy = query.groupBy;
+            this.limit = query.limit;
+            this.heap = new PriorityQueue<>(Comparator.comparingLong((long[] group) -> group[3]));
+        }
+
+        void offer(int key, long bookings, long nights, long cents) {
+            if (limit == Integer.MAX_VALUE) {
+                all.add(new long[]{key, bookings, nights, cents});
+            } else if (heap.size() < limit) {
+                heap.offer(new long[]{key, bookings, nights, cents});
+            } else if (limit > 0 && cents > heap.peek()[3]) {
+                heap.poll();
+                heap.offer(new long[]{key, bookings, nights, cents});
+            }
+        }
+
+        List<GroupResult> finish() {
+            Collection<long[]> groups = limit == Integer.MAX_VALUE ? all : heap;
+            List<GroupResult> results = new ArrayList<>(groups.size());
+            for (long[] group : groups) {
+                results.add(new GroupResult(label(groupBy, (int) group[0]), group[1], group[2], group[3]));
+            }
+            results.sort(Comparator.comparingLong(GroupResult::revenueCents).reversed()
+                    .thenComparing(GroupResult::key));
+            return results;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.roomify.core.analytics;
+
+/**
+ * Array-indexed totals for group keys known to lie in {@code [0, cardinality)}, such as
+ * dictionary codes. With a stride above one it holds only the keys of one partition
+ * ({@code key & (stride - 1) == partition}), which lets several scans split a very
+ * large key space between them instead of each allocating all of it.
+ */
+final class DenseTotals implements GroupSink {
+
+    private final int partition;
+    private final int mask;
+    private final int shift;
+    final long[] bookings;
+    final long[] nights;
+    final long[] cents;
+
+    DenseTotals(int cardinality, int partition, int stride) {
+        this.partition = partition;
+        this.mask = stride - 1;
+        this.shift = Integer.numberOfTrailingZeros(stride);
+        int slots = (cardinality + stride - 1) / stride;
+        this.bookings = new long[slots];
+        this.nights = new long[slots];
+        this.cents = new long[slots];
+    }
+
+    @Override
+    public void add(int key, int nightCount, long revenueCents) {
+        if ((key & mask) != partition) {
+            return;
+        }
+        int slot = key >>> shift;
+        bookings[slot]++;
+        nights[slot] += nightCount;
+        cents[slot] += revenueCents;
+    }
+
+    void mergeInto(DenseTotals other) {
+        for (int slot = 0; slot < bookings.length; slot++) {
+            other.bookings[slot] += bookings[slot];
+            other.nights[slot] += nights[slot];
+            other.cents[slot] += cents[slot];
+        }
+    }
+
+    int keyOf(int slot) {
+        return slot << shift | partition;
+    }
+}
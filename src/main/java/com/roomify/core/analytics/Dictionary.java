@@ -0,0 +1,40 @@
+package com.roomify.core.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps strings to dense int codes in first-seen order. Not thread-safe; the store only
+ * touches it under its write lock, or reads codes that were published before.
+ */
+final class Dictionary {
+
+    static final int MISSING = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    int lookup(String value) {
+        return codes.getOrDefault(value, MISSING);
+    }
+
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+}
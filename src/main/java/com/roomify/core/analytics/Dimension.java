@@ -0,0 +1,15 @@
+package com.roomify.core.analytics;
+
+/**
+ * What a {@link BookingQuery} groups by. Weekday is the check-in day, stay length is in
+ * nights and lead time in days between booking and check-in.
+ */
+public enum Dimension {
+    NONE,
+    ROOM,
+    ROOM_TYPE,
+    CUSTOMER,
+    WEEKDAY,
+    STAY_LENGTH,
+    LEAD_TIME
+}
@@ -0,0 +1,15 @@
+package com.roomify.core.analytics;
+
+/**
+ * Totals for one group of a {@link BookingQuery}. Revenue is kept in cents.
+ */
+public record GroupResult(String key, long bookings, long nights, long revenueCents) {
+
+    public double revenue() {
+        return revenueCents / 100.0;
+    }
+
+    public double averageStayLength() {
+        return bookings == 0 ? 0 : (double) nights / bookings;
+    }
+}
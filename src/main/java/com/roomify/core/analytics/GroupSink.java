@@ -0,0 +1,9 @@
+package com.roomify.core.analytics;
+
+/**
+ * Receives the rows a scan selected, already reduced to a group key.
+ */
+interface GroupSink {
+
+    void add(int key, int nights, long cents);
+}
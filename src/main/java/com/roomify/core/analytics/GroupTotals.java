@@ -0,0 +1,112 @@
+package com.roomify.core.analytics;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing map from an int group key to bookings, nights and revenue cents, for
+ * group keys without a known range (stay length, lead time). One instance per scan
+ * task; tasks are merged at the end.
+ */
+final class GroupTotals implements GroupSink {
+
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private int[] keys;
+    private long[] bookings;
+    private long[] nights;
+    private long[] cents;
+    private int size;
+
+    GroupTotals() {
+        allocate(64);
+    }
+
+    @Override
+    public void add(int key, int nightCount, long revenueCents) {
+        add(key, 1, nightCount, revenueCents);
+    }
+
+    void add(int key, long bookingCount, long nightCount, long revenueCents) {
+        int slot = slotOf(key);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = key;
+            if (++size * 2 > keys.length) {
+                rehash();
+                slot = slotOf(key);
+            }
+        }
+        bookings[slot] += bookingCount;
+        nights[slot] += nightCount;
+        cents[slot] += revenueCents;
+    }
+
+    void mergeInto(GroupTotals other) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                other.add(keys[i], bookings[i], nights[i], cents[i]);
+            }
+        }
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    boolean occupied(int slot) {
+        return keys[slot] != EMPTY;
+    }
+
+    int key(int slot) {
+        return keys[slot];
+    }
+
+    long bookings(int slot) {
+        return bookings[slot];
+    }
+
+    long nights(int slot) {
+        return nights[slot];
+    }
+
+    long cents(int slot) {
+        return cents[slot];
+    }
+
+    private int slotOf(int key) {
+        int mask = keys.length - 1;
+        int hash = key * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void rehash() {
+        int[] oldKeys = keys;
+        long[] oldBookings = bookings;
+        long[] oldNights = nights;
+        long[] oldCents = cents;
+
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slotOf(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                bookings[slot] = oldBookings[i];
+                nights[slot] = oldNights[i];
+                cents[slot] = oldCents[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        bookings = new long[capacity];
+        nights = new long[capacity];
+        cents = new long[capacity];
+        size = 0;
+    }
+}
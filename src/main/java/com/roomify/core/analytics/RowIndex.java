@@ -0,0 +1,88 @@
+package com.roomify.core.analytics;
+
+/**
+ * Booking id to row number, open-addressed over plain arrays. Much smaller than a
+ * {@code HashMap<String, Integer>} at tens of millions of rows. A cancelled booking keeps
+ * its slot and points at its tombstoned row until the store compacts, which drops it.
+ */
+final class RowIndex {
+
+    static final int ABSENT = -1;
+
+    private static final int MIN_CAPACITY = 1024;
+
+    private String[] ids = new String[MIN_CAPACITY];
+    private int[] rows = new int[MIN_CAPACITY];
+    private int size;
+
+    int get(String id) {
+        int slot = slotOf(id);
+        return ids[slot] == null ? ABSENT : rows[slot];
+    }
+
+    void put(String id, int row) {
+        int slot = slotOf(id);
+        if (ids[slot] == null) {
+            ids[slot] = id;
+            if (++size * 3 > ids.length * 2) {
+                rows[slot] = row;
+                grow();
+                return;
+            }
+        }
+        rows[slot] = row;
+    }
+
+    /**
+     * Renumbers every row to {@code newRowOf[row]}, dropping ids whose row maps to
+     * {@link #ABSENT}.
+     */
+    void compact(int[] newRowOf) {
+        String[] oldIds = ids;
+        int[] oldRows = rows;
+        int capacity = MIN_CAPACITY;
+        int live = 0;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != null && newRowOf[oldRows[i]] != ABSENT) {
+                live++;
+            }
+        }
+        while (live * 3 > capacity * 2) {
+            capacity *= 2;
+        }
+        ids = new String[capacity];
+        rows = new int[capacity];
+        size = live;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != null && newRowOf[oldRows[i]] != ABSENT) {
+                int slot = slotOf(oldIds[i]);
+                ids[slot] = oldIds[i];
+                rows[slot] = newRowOf[oldRows[i]];
+            }
+        }
+    }
+
+    private int slotOf(String id) {
+        int mask = ids.length - 1;
+        int hash = id.hashCode() * 0x9E3779B9;
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (ids[slot] != null && !ids[slot].equals(id)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        String[] oldIds = ids;
+        int[] oldRows = rows;
+        ids = new String[oldIds.length * 2];
+        rows = new int[oldIds.length * 2];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != null) {
+                int slot = slotOf(oldIds[i]);
+                ids[slot] = oldIds[i];
+                rows[slot] = oldRows[i];
+            }
+        }
+    }
+}
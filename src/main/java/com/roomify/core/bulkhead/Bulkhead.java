@@ -0,0 +1,85 @@
+package com.roomify.core.bulkhead;
+
+import com.roomify.core.exception.BulkheadFullException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Caps the number of concurrent calls into one downstream dependency.
+ *
+ * <p>With virtual threads the request threads are no longer a limit, so without a cap a
+ * slow payment provider would collect every in-flight request. Each dependency gets its
+ * own bulkhead: a caller waits at most {@code maxWait} for a permit and then fails with
+ * {@link BulkheadFullException}, leaving the other dependencies' permits untouched.
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int permits;
+    private final long maxWaitNanos;
+    private final Semaphore semaphore;
+
+    public Bulkhead(String name, int permits, Duration maxWait) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Bulkhead needs at least one permit");
+        }
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("Max wait must not be negative");
+        }
+        this.name = name;
+        this.permits = permits;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    public <T> T call(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    public void run(Runnable call) {
+        acquire();
+        try {
+            call.run();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Takes a permit that the caller must hand back with {@link #release()}, for calls whose
+     * work outlives the method, such as a lazily consumed stream.
+     */
+    public void acquire() {
+        try {
+            if (!semaphore.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new BulkheadFullException(name + " is busy, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadFullException("Interrupted while waiting for " + name);
+        }
+    }
+
+    public void release() {
+        semaphore.release();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int permits() {
+        return permits;
+    }
+
+    public int inFlight() {
+        return permits - semaphore.availablePermits();
+    }
+}
@@ -0,0 +1,70 @@
+package com.roomify.core.bulkhead;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.repository.BookingRepository;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link BookingRepository} whose calls go through a {@link Bulkhead}, typically sized to
+ * the connection pool of a database-backed delegate. A stream from
+ * {@link #streamInRange} holds its permit until it is closed.
+ */
+public class BulkheadBookingRepository implements BookingRepository {
+
+    private final BookingRepository delegate;
+    private final Bulkhead bulkhead;
+
+    public BulkheadBookingRepository(BookingRepository delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        return bulkhead.call(() -> delegate.save(booking));
+    }
+
+    @Override
+    public Optional<Booking> findById(String id) {
+        return bulkhead.call(() -> delegate.findById(id));
+    }
+
+    @Override
+    public List<Booking> findByRoomId(String roomId) {
+        return bulkhead.call(() -> delegate.findByRoomId(roomId));
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return bulkhead.call(() -> delegate.delete(id));
+    }
+
+    @Override
+    public List<Booking> findOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return bulkhead.call(() -> delegate.findOverlapping(roomId, from, to));
+    }
+
+    @Override
+    public boolean existsOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return bulkhead.call(() -> delegate.existsOverlapping(roomId, from, to));
+    }
+
+    @Override
+    public List<Booking> findInRange(LocalDate from, LocalDate to) {
+        return bulkhead.call(() -> delegate.findInRange(from, to));
+    }
+
+    @Override
+    public Stream<Booking> streamInRange(LocalDate from, LocalDate to) {
+        bulkhead.acquire();
+        try {
+            return delegate.streamInRange(from, to).onClose(bulkhead::release);
+        } catch (RuntimeException e) {
+            bulkhead.release();
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.roomify.core.bulkhead;
+
+import com.roomify.core.service.NotificationService;
+
+/**
+ * {@link NotificationService} whose sends go through a {@link Bulkhead}.
+ */
+public class BulkheadNotificationService implements NotificationService {
+
+    private final NotificationService delegate;
+    private final Bulkhead bulkhead;
+
+    public BulkheadNotificationService(NotificationService delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public void notifyBookingCreated(String userId, String bookingId) {
+        bulkhead.run(() -> delegate.notifyBookingCreated(userId, bookingId));
+    }
+
+    @Override
+    public void notifyBookingCancelled(String userId, String bookingId, double refundAmount) {
+        bulkhead.run(() -> delegate.notifyBookingCancelled(userId, bookingId, refundAmount));
+    }
+}
@@ -0,0 +1,28 @@
+package com.roomify.core.bulkhead;
+
+import com.roomify.core.dto.PaymentResult;
+import com.roomify.core.service.PaymentService;
+
+/**
+ * {@link PaymentService} whose charges and refunds go through a {@link Bulkhead}.
+ */
+public class BulkheadPaymentService implements PaymentService {
+
+    private final PaymentService delegate;
+    private final Bulkhead bulkhead;
+
+    public BulkheadPaymentService(PaymentService delegate, Bulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public PaymentResult charge(String userId, double amount) {
+        return bulkhead.call(() -> delegate.charge(userId, amount));
+    }
+
+    @Override
+    public PaymentResult refund(String userId, double amount) {
+        return bulkhead.call(() -> delegate.refund(userId, amount));
+    }
+}
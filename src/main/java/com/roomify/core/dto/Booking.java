@@ -21,6 +21,10 @@ public class Booking {
         this.price = price;
     }
 
+    public Booking(Booking other) {
+        this(other.id, other.roomId, other.userId, other.from, other.to, other.price);
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
 
@@ -0,0 +1,25 @@
+package com.roomify.core.dto;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Sketch-based customer figures for the months {@code from} to {@code to}, inclusive.
+ * {@code uniqueCustomers} is off by more than {@code uniqueCustomersRelativeError} (one
+ * standard error) about a third of the time. Each top customer's true revenue lies in
+ * {@code [revenue - maxOverestimate, revenue]}, and no customer left off the list spent
+ * more than {@code unlistedRevenueBound}.
+ */
+public record CustomerEstimate(YearMonth from,
+                               YearMonth to,
+                               long uniqueCustomers,
+                               double uniqueCustomersRelativeError,
+                               List<TopCustomer> topCustomers,
+                               double unlistedRevenueBound) {
+
+    public CustomerEstimate {
+        topCustomers = List.copyOf(topCustomers);
+    }
+
+    public record TopCustomer(String userId, double revenue, double maxOverestimate) {}
+}
@@ -0,0 +1,24 @@
+package com.roomify.core.dto;
+
+public record MonthlyMetrics(int year,
+                             int month,
+                             int totalBookings,
+                             double totalRevenue,
+                             double averageBookingValue,
+                             int totalRoomNights,
+                             int bookedRoomNights,
+                             double occupancyRate,
+                             int uniqueCustomers) implements PeriodMetrics {
+
+    /**
+     * Derives the average booking value and the occupancy rate from the totals.
+     */
+    public static MonthlyMetrics of(int year, int month, int totalBookings, double totalRevenue,
+                                    int totalRoomNights, int bookedRoomNights, int uniqueCustomers) {
+        return new MonthlyMetrics(year, month, totalBookings, totalRevenue,
+                totalBookings == 0 ? 0 : totalRevenue / totalBookings,
+                totalRoomNights, bookedRoomNights,
+                totalRoomNights > 0 ? (double) bookedRoomNights / totalRoomNights : 0,
+                uniqueCustomers);
+    }
+}
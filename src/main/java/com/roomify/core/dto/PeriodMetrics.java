@@ -0,0 +1,14 @@
+package com.roomify.core.dto;
+
+/**
+ * Booking and revenue totals shared by the monthly and yearly rollups, so report tables
+ * can print either.
+ */
+public interface PeriodMetrics {
+
+    int totalBookings();
+
+    double totalRevenue();
+
+    double averageBookingValue();
+}
@@ -0,0 +1,13 @@
+package com.roomify.core.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Totals for the half-open range [from, to). {@code roomId} is null for all rooms.
+ */
+public record RangeMetrics(String roomId,
+                           LocalDate from,
+                           LocalDate to,
+                           double revenue,
+                           long roomNights,
+                           long bookings) {}
@@ -15,6 +15,10 @@ public class Room {
         this.basePrice = basePrice;
     }
 
+    public Room(Room other) {
+        this(other.id, other.type, other.capacity, other.basePrice);
+    }
+
     public String getId() { return id; }
     public void setId(String id) { this.id = id; }
     public String getType() { return type; }
@@ -0,0 +1,19 @@
+package com.roomify.core.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Immutable room counts as of {@code loadedAt}. {@code version} increases every time the
+ * inventory is reloaded, so callers can tell whether two reads saw the same snapshot.
+ */
+public record RoomInventory(long version, Instant loadedAt, int totalRooms, Map<String, Long> roomsByType) {
+
+    public RoomInventory {
+        roomsByType = Map.copyOf(roomsByType);
+    }
+
+    public long roomsOfType(String type) {
+        return roomsByType.getOrDefault(type, 0L);
+    }
+}
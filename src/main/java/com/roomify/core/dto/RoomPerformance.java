@@ -0,0 +1,60 @@
+package com.roomify.core.dto;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * One room's figures for a month; {@code occupancyRate} is booked nights over the days of
+ * the month, between 0 and 1.
+ */
+public record RoomPerformance(String roomId,
+                              int bookings,
+                              double revenue,
+                              int nights,
+                              double occupancyRate) {
+
+    public double averageBookingValue() {
+        return bookings == 0 ? 0 : revenue / bookings;
+    }
+
+    /**
+     * Orderings for the all-rooms report, best first; ties fall back to the room id so pages
+     * are stable.
+     */
+    public enum Sort {
+        REVENUE(Comparator.comparingDouble(RoomPerformance::revenue)),
+        OCCUPANCY(Comparator.comparingDouble(RoomPerformance::occupancyRate));
+
+        private final Comparator<RoomPerformance> bestFirst;
+
+        Sort(Comparator<RoomPerformance> ascending) {
+            this.bestFirst = ascending.reversed().thenComparing(RoomPerformance::roomId);
+        }
+
+        public Comparator<RoomPerformance> comparator() {
+            return bestFirst;
+        }
+
+        public static Sort parse(String name) {
+            if (name == null || name.isEmpty()) {
+                return REVENUE;
+            }
+            try {
+                return valueOf(name.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort: " + name);
+            }
+        }
+    }
+
+    /**
+     * One page of rooms; {@code totalRooms} counts every room, including idle ones.
+     */
+    public record Page(int page, int pageSize, int totalRooms, Sort sort, List<RoomPerformance> rooms) {
+
+        public Page {
+            rooms = List.copyOf(rooms);
+        }
+    }
+}
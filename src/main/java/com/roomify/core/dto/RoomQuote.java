@@ -0,0 +1,19 @@
+package com.roomify.core.dto;
+
+import java.util.List;
+
+/**
+ * An available room with its price for the searched stay.
+ */
+public record RoomQuote(String roomId, String type, int capacity, double price) {
+
+    /**
+     * One page of search results, cheapest first; {@code nextCursor} is null on the last page.
+     */
+    public record Page(List<RoomQuote> rooms, String nextCursor) {
+
+        public Page {
+            rooms = List.copyOf(rooms);
+        }
+    }
+}
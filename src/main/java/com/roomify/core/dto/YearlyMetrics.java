@@ -0,0 +1,39 @@
+package com.roomify.core.dto;
+
+import java.util.List;
+
+/**
+ * A year folded from its monthly rollups. Unique customers are not additive across
+ * months, so unlike {@link MonthlyMetrics} there is no customer count.
+ */
+public record YearlyMetrics(int year,
+                            int totalBookings,
+                            double totalRevenue,
+                            double averageBookingValue,
+                            int totalRoomNights,
+                            int bookedRoomNights,
+                            double occupancyRate) implements PeriodMetrics {
+
+    /**
+     * Sums the given months, which must all belong to {@code year}.
+     */
+    public static YearlyMetrics of(int year, List<MonthlyMetrics> months) {
+        int totalBookings = 0;
+        double totalRevenue = 0;
+        int totalRoomNights = 0;
+        int bookedRoomNights = 0;
+        for (MonthlyMetrics month : months) {
+            if (month.year() != year) {
+                throw new IllegalArgumentException("Month " + month.year() + "-" + month.month() + " is not in " + year);
+            }
+            totalBookings += month.totalBookings();
+            totalRevenue += month.totalRevenue();
+            totalRoomNights += month.totalRoomNights();
+            bookedRoomNights += month.bookedRoomNights();
+        }
+        return new YearlyMetrics(year, totalBookings, totalRevenue,
+                totalBookings == 0 ? 0 : totalRevenue / totalBookings,
+                totalRoomNights, bookedRoomNights,
+                totalRoomNights > 0 ? (double) bookedRoomNights / totalRoomNights : 0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.roomify.core.exception;
+
+/**
+ * Thrown when a downstream call could not get a bulkhead permit in time, i.e. the
+ * dependency already has as many calls in flight as it is allowed.
+ */
+public class BulkheadFullException extends DomainException {
+    public BulkheadFullException(String message) { super(message); }
+}
@@ -0,0 +1,46 @@
+package com.roomify.core.metrics;
+
+/**
+ * Timing hooks for the stages of {@code BookingService.createBooking}.
+ *
+ * <p>Stages are timed as laps: {@link #start()} reads the clock once and every
+ * {@link #lap(Stage, long)} records the time since the previous reading and returns the new
+ * one, so a booking costs one clock read per stage. {@link #NONE} never reads the clock.
+ */
+public interface BookingMetrics {
+
+    enum Stage { VALIDATION, AVAILABILITY, PRICING, DISCOUNT, PAYMENT, PERSISTENCE, NOTIFICATION }
+
+    enum Rejection { INVALID_REQUEST, UNAVAILABLE, PAYMENT_DECLINED }
+
+    BookingMetrics NONE = new BookingMetrics() {
+        @Override
+        public long start() {
+            return 0;
+        }
+
+        @Override
+        public long lap(Stage stage, long since) {
+            return 0;
+        }
+
+        @Override
+        public void completed(long startedAt) {
+        }
+
+        @Override
+        public void rejected(Rejection reason) {
+        }
+    };
+
+    long start();
+
+    /**
+     * Records {@code stage} as having run since {@code since}; returns the current reading.
+     */
+    long lap(Stage stage, long since);
+
+    void completed(long startedAt);
+
+    void rejected(Rejection reason);
+}
@@ -0,0 +1,40 @@
+package com.roomify.core.metrics;
+
+import com.roomify.core.service.ReportCache;
+import com.roomify.core.service.ReportPrecomputeScheduler;
+import com.roomify.core.service.ReportService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Size gauges for the report caches and the precompute backlog. Gauges are sampled on
+ * scrape, so they add nothing to the request path.
+ */
+public class ReportMetrics implements MeterBinder {
+
+    private final ReportCache reportCache;
+    private final ReportService reportService;
+    private final ReportPrecomputeScheduler scheduler;
+
+    public ReportMetrics(ReportCache reportCache, ReportService reportService, ReportPrecomputeScheduler scheduler) {
+        this.reportCache = reportCache;
+        this.reportService = reportService;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("roomify.report.cache.size", reportCache, ReportCache::size)
+                .description("Rendered reports held in the report cache")
+                .tag("cache", "rendered")
+                .register(registry);
+        Gauge.builder("roomify.report.cache.size", reportService, ReportService::cachedMonths)
+                .description("Closed-month rollups and customer sketches held by the report service")
+                .tag("cache", "closed-months")
+                .register(registry);
+        Gauge.builder("roomify.report.precompute.pending", scheduler, ReportPrecomputeScheduler::pendingReports)
+                .description("Standard reports that are stale and waiting for the precompute run")
+                .register(registry);
+    }
+}
@@ -0,0 +1,163 @@
+package com.roomify.core.report;
+
+import com.roomify.core.report.ReportColumn.Kind;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * RFC 4180 CSV. A section starts with a one-cell row holding its name; fields follow as
+ * {@code label,value} rows and a table as a header row plus data rows. Sections are
+ * separated by an empty line. Numbers are written without currency or percent signs.
+ */
+public class CsvReportWriter implements ReportWriter {
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    private ReportColumn[] columns;
+    private int column;
+
+    public CsvReportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void beginReport(String title, LocalDate generatedOn) throws IOException {
+        appendEscaped("Report").append(',');
+        appendEscaped(title);
+        endLine();
+        if (generatedOn != null) {
+            line.append("Generated On,").append(generatedOn);
+            endLine();
+        }
+    }
+
+    @Override
+    public void beginSection(String name) throws IOException {
+        endLine();
+        appendEscaped(name);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, String value) throws IOException {
+        appendEscaped(label).append(',');
+        appendEscaped(value);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, long value) throws IOException {
+        appendEscaped(label).append(',').append(value);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, double value, Kind kind) throws IOException {
+        appendEscaped(label).append(',');
+        appendNumber(value, kind);
+        endLine();
+    }
+
+    @Override
+    public void message(String text) throws IOException {
+        appendEscaped(text);
+        endLine();
+    }
+
+    @Override
+    public void beginTable(ReportColumn... columns) throws IOException {
+        this.columns = columns;
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            appendEscaped(columns[i].name());
+        }
+        endLine();
+        column = 0;
+    }
+
+    @Override
+    public void cell(String value) {
+        separate();
+        appendEscaped(value);
+    }
+
+    @Override
+    public void cell(long value) {
+        separate();
+        line.append(value);
+    }
+
+    @Override
+    public void cell(double value) {
+        separate();
+        appendNumber(value, columns[column - 1].kind());
+    }
+
+    @Override
+    public void endRow() throws IOException {
+        column = 0;
+        endLine();
+    }
+
+    @Override
+    public void endTable() {
+        columns = null;
+    }
+
+    @Override
+    public void endSection() {
+    }
+
+    @Override
+    public void endReport() throws IOException {
+        out.flush();
+    }
+
+    private void separate() {
+        if (column++ > 0) {
+            line.append(',');
+        }
+    }
+
+    private void appendNumber(double value, Kind kind) {
+        switch (kind) {
+            case PERCENT, DECIMAL -> NumberFormatter.appendFixed(line, value, 1);
+            case INTEGER -> line.append(Math.round(value));
+            default -> NumberFormatter.appendFixed(line, value, 2);
+        }
+    }
+
+    private StringBuilder appendEscaped(String value) {
+        if (value == null) {
+            return line;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return line.append(value);
+        }
+
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private void endLine() throws IOException {
+        line.append("\r\n");
+        out.append(line);
+        line.setLength(0);
+    }
+}
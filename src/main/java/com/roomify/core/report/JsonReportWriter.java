@@ -0,0 +1,257 @@
+package com.roomify.core.report;
+
+import com.roomify.core.report.ReportColumn.Kind;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streams a report as one JSON document:
+ * <pre>
+ * {"title":..., "generatedOn":..., "sections":[
+ *   {"name":..., "fields":{...}, "messages":[...], "rows":[{...}, ...]}, ...]}
+ * </pre>
+ * Field labels and column names become lowerCamelCase keys ("Room ID" is "roomId").
+ * Table rows are written as they arrive, so memory use does not grow with row count.
+ */
+public class JsonReportWriter implements ReportWriter {
+
+    private static final int FLUSH_THRESHOLD = 8192;
+
+    private final Writer out;
+    private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 256);
+    private final Map<String, String> keys = new HashMap<>();
+
+    private boolean firstSection = true;
+    private char openBlock;
+    private boolean firstBlockItem;
+
+    private String[] columnKeys;
+    private ReportColumn[] columns;
+    private int column;
+    private boolean firstRow;
+
+    public JsonReportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void beginReport(String title, LocalDate generatedOn) {
+        buffer.append("{\"title\":");
+        appendString(title);
+        if (generatedOn != null) {
+            buffer.append(",\"generatedOn\":\"").append(generatedOn).append('"');
+        }
+        buffer.append(",\"sections\":[");
+    }
+
+    @Override
+    public void beginSection(String name) {
+        if (!firstSection) {
+            buffer.append(',');
+        }
+        firstSection = false;
+        buffer.append("{\"name\":");
+        appendString(name);
+        openBlock = 0;
+    }
+
+    @Override
+    public void field(String label, String value) throws IOException {
+        fieldKey(label);
+        appendString(value);
+        maybeFlush();
+    }
+
+    @Override
+    public void field(String label, long value) throws IOException {
+        fieldKey(label);
+        buffer.append(value);
+        maybeFlush();
+    }
+
+    @Override
+    public void field(String label, double value, Kind kind) throws IOException {
+        fieldKey(label);
+        appendNumber(value, kind);
+        maybeFlush();
+    }
+
+    @Override
+    public void message(String text) throws IOException {
+        openBlock('m', "messages", '[');
+        appendString(text);
+        maybeFlush();
+    }
+
+    @Override
+    public void beginTable(ReportColumn... columns) {
+        closeBlock();
+        this.columns = columns;
+        this.columnKeys = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columnKeys[i] = key(columns[i].name());
+        }
+        buffer.append(",\"rows\":[");
+        firstRow = true;
+        column = 0;
+    }
+
+    @Override
+    public void cell(String value) {
+        cellKey();
+        appendString(value);
+    }
+
+    @Override
+    public void cell(long value) {
+        cellKey();
+        buffer.append(value);
+    }
+
+    @Override
+    public void cell(double value) {
+        cellKey();
+        appendNumber(value, columns[column - 1].kind());
+    }
+
+    @Override
+    public void endRow() throws IOException {
+        if (column > 0) {
+            buffer.append('}');
+        }
+        column = 0;
+        maybeFlush();
+    }
+
+    @Override
+    public void endTable() {
+        buffer.append(']');
+        columns = null;
+        columnKeys = null;
+    }
+
+    @Override
+    public void endSection() {
+        closeBlock();
+        buffer.append('}');
+    }
+
+    @Override
+    public void endReport() throws IOException {
+        buffer.append("]}");
+        out.append(buffer);
+        buffer.setLength(0);
+        out.flush();
+    }
+
+    private void fieldKey(String label) {
+        openBlock('f', "fields", '{');
+        buffer.append('"').append(key(label)).append("\":");
+    }
+
+    private void cellKey() {
+        if (column == 0) {
+            if (!firstRow) {
+                buffer.append(',');
+            }
+            firstRow = false;
+            buffer.append('{');
+        } else {
+            buffer.append(',');
+        }
+        buffer.append('"').append(columnKeys[column++]).append("\":");
+    }
+
+    private void openBlock(char block, String name, char bracket) {
+        if (openBlock != block) {
+            closeBlock();
+            buffer.append(",\"").append(name).append("\":").append(bracket);
+            openBlock = block;
+            firstBlockItem = true;
+        }
+        if (!firstBlockItem) {
+            buffer.append(',');
+        }
+        firstBlockItem = false;
+    }
+
+    private void closeBlock() {
+        if (openBlock == 'f') {
+            buffer.append('}');
+        } else if (openBlock == 'm') {
+            buffer.append(']');
+        }
+        openBlock = 0;
+    }
+
+    private void appendNumber(double value, Kind kind) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            buffer.append("null");
+            return;
+        }
+        switch (kind) {
+            case PERCENT, DECIMAL -> NumberFormatter.appendFixed(buffer, value, 1);
+            case INTEGER -> buffer.append(Math.round(value));
+            default -> NumberFormatter.appendFixed(buffer, value, 2);
+        }
+    }
+
+    private void appendString(String value) {
+        if (value == null) {
+            buffer.append("null");
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> buffer.append("\\\"");
+                case '\\' -> buffer.append("\\\\");
+                case '\n' -> buffer.append("\\n");
+                case '\r' -> buffer.append("\\r");
+                case '\t' -> buffer.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        buffer.append("\\u00");
+                        buffer.append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        buffer.append(c);
+                    }
+                }
+            }
+        }
+        buffer.append('"');
+    }
+
+    private String key(String label) {
+        return keys.computeIfAbsent(label, JsonReportWriter::toCamelCase);
+    }
+
+    static String toCamelCase(String label) {
+        StringBuilder key = new StringBuilder(label.length());
+        boolean upperNext = false;
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                upperNext = key.length() > 0;
+            } else if (key.length() == 0) {
+                key.append(Character.toLowerCase(c));
+                upperNext = false;
+            } else {
+                key.append(upperNext ? Character.toUpperCase(c) : Character.toLowerCase(c));
+                upperNext = false;
+            }
+        }
+        return key.toString();
+    }
+
+    private void maybeFlush() throws IOException {
+        if (buffer.length() >= FLUSH_THRESHOLD) {
+            out.append(buffer);
+            buffer.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.roomify.core.report;
+
+import com.roomify.core.dto.MonthlyMetrics;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wire formats for {@link MonthlyMetrics}.
+ *
+ * <p>Binary, big-endian: a version byte and an int count, then 27 bytes per month: short
+ * year, byte month, int bookings, double revenue, int available room-nights, int booked
+ * room-nights, int unique customers. The average booking value and occupancy rate are
+ * not sent; they are derived again on read exactly as {@link MonthlyMetrics#of} does.
+ *
+ * <p>JSON: an array of flat objects with the record's component names as keys.
+ */
+public final class MonthlyMetricsCodec {
+
+    public static final byte VERSION = 1;
+    public static final int RECORD_BYTES = Short.BYTES + Byte.BYTES + Integer.BYTES + Double.BYTES
+            + Integer.BYTES * 3;
+
+    private static final int HEADER_BYTES = Byte.BYTES + Integer.BYTES;
+
+    private MonthlyMetricsCodec() {
+    }
+
+    public static byte[] encode(List<MonthlyMetrics> metrics) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + RECORD_BYTES * metrics.size());
+        buffer.put(VERSION).putInt(metrics.size());
+        for (MonthlyMetrics month : metrics) {
+            write(month, buffer);
+        }
+        return buffer.array();
+    }
+
+    public static List<MonthlyMetrics> decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported metrics version: " + version);
+            }
+            int count = buffer.getInt();
+            if (count < 0 || count > buffer.remaining() / RECORD_BYTES) {
+                throw new IllegalArgumentException("Corrupt metrics payload");
+            }
+            List<MonthlyMetrics> metrics = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                metrics.add(read(buffer));
+            }
+            return metrics;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated metrics payload", e);
+        }
+    }
+
+    public static void write(MonthlyMetrics metrics, ByteBuffer buffer) {
+        buffer.putShort((short) metrics.year())
+                .put((byte) metrics.month())
+                .putInt(metrics.totalBookings())
+                .putDouble(metrics.totalRevenue())
+                .putInt(metrics.totalRoomNights())
+                .putInt(metrics.bookedRoomNights())
+                .putInt(metrics.uniqueCustomers());
+    }
+
+    public static MonthlyMetrics read(ByteBuffer buffer) {
+        int year = buffer.getShort();
+        int month = buffer.get();
+        int totalBookings = buffer.getInt();
+        double totalRevenue = buffer.getDouble();
+        int totalRoomNights = buffer.getInt();
+        int bookedRoomNights = buffer.getInt();
+        int uniqueCustomers = buffer.getInt();
+        return MonthlyMetrics.of(year, month, totalBookings, totalRevenue, totalRoomNights, bookedRoomNights,
+                uniqueCustomers);
+    }
+
+    public static String toJson(List<MonthlyMetrics> metrics) {
+        StringBuilder json = new StringBuilder(64 + metrics.size() * 200);
+        json.append('[');
+        for (int i = 0; i < metrics.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendJson(json, metrics.get(i));
+        }
+        return json.append(']').toString();
+    }
+
+    public static StringBuilder appendJson(StringBuilder json, MonthlyMetrics metrics) {
+        json.append("{\"year\":").append(metrics.year())
+                .append(",\"month\":").append(metrics.month())
+                .append(",\"totalBookings\":").append(metrics.totalBookings())
+                .append(",\"totalRevenue\":");
+        NumberFormatter.appendFixed(json, metrics.totalRevenue(), 2);
+        json.append(",\"averageBookingValue\":");
+        NumberFormatter.appendFixed(json, metrics.averageBookingValue(), 2);
+        json.append(",\"totalRoomNights\":").append(metrics.totalRoomNights())
+                .append(",\"bookedRoomNights\":").append(metrics.bookedRoomNights())
+                .append(",\"occupancyRate\":");
+        NumberFormatter.appendFixed(json, metrics.occupancyRate(), 4);
+        return json.append(",\"uniqueCustomers\":").append(metrics.uniqueCustomers()).append('}');
+    }
+}
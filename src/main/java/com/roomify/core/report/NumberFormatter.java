@@ -0,0 +1,67 @@
+package com.roomify.core.report;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-point formatting straight into a {@link StringBuilder}, for the hot paths of the
+ * renderers where {@code String.format} would parse a pattern and allocate per value.
+ */
+final class NumberFormatter {
+
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+    private static final String SPACES = " ".repeat(64);
+
+    // beyond this a scaled value no longer fits a long exactly
+    private static final double MAX_SCALED = 9e15;
+
+    private NumberFormatter() {
+    }
+
+    /**
+     * Appends {@code value} with exactly {@code decimals} fraction digits, rounding half up.
+     */
+    static StringBuilder appendFixed(StringBuilder out, double value, int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return out.append(value);
+        }
+
+        long scale = POWERS_OF_TEN[decimals];
+        double scaled = Math.abs(value) * scale;
+        if (scaled >= MAX_SCALED) {
+            return out.append(BigDecimal.valueOf(value).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+        }
+
+        long units = Math.round(scaled);
+        if (value < 0 && units != 0) {
+            out.append('-');
+        }
+        out.append(units / scale);
+        if (decimals > 0) {
+            out.append('.');
+            long fraction = units % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                out.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+        return out;
+    }
+
+    static StringBuilder padLeft(StringBuilder out, int from, int width) {
+        int missing = width - (out.length() - from);
+        while (missing > 0) {
+            int chunk = Math.min(missing, SPACES.length());
+            out.insert(from, SPACES, 0, chunk);
+            missing -= chunk;
+        }
+        return out;
+    }
+
+    static StringBuilder padRight(StringBuilder out, int from, int width) {
+        for (int i = out.length() - from; i < width; i++) {
+            out.append(' ');
+        }
+        return out;
+    }
+}
@@ -0,0 +1,27 @@
+package com.roomify.core.report;
+
+/**
+ * A table column. {@code width} only matters to the text renderer.
+ */
+public record ReportColumn(String name, Kind kind, int width) {
+
+    public enum Kind {
+        TEXT, INTEGER, MONEY, PERCENT, DECIMAL
+    }
+
+    public static ReportColumn text(String name, int width) {
+        return new ReportColumn(name, Kind.TEXT, width);
+    }
+
+    public static ReportColumn integer(String name, int width) {
+        return new ReportColumn(name, Kind.INTEGER, width);
+    }
+
+    public static ReportColumn money(String name, int width) {
+        return new ReportColumn(name, Kind.MONEY, width);
+    }
+
+    public static ReportColumn percent(String name, int width) {
+        return new ReportColumn(name, Kind.PERCENT, width);
+    }
+}
@@ -0,0 +1,39 @@
+package com.roomify.core.report;
+
+import java.io.Writer;
+import java.util.Locale;
+
+public enum ReportFormat {
+    TEXT("text/plain"),
+    CSV("text/csv"),
+    JSON("application/json");
+
+    private final String contentType;
+
+    ReportFormat(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public ReportWriter open(Writer out) {
+        return switch (this) {
+            case TEXT -> new TextReportWriter(out);
+            case CSV -> new CsvReportWriter(out);
+            case JSON -> new JsonReportWriter(out);
+        };
+    }
+
+    public static ReportFormat parse(String name) {
+        if (name == null || name.isEmpty()) {
+            return TEXT;
+        }
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported report format: " + name);
+        }
+    }
+}
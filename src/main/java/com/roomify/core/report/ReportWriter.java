@@ -0,0 +1,46 @@
+package com.roomify.core.report;
+
+import com.roomify.core.report.ReportColumn.Kind;
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Sink for a report as a sequence of sections, each holding fields, messages and at
+ * most one table. Renderers write to the underlying {@link java.io.Writer} as events
+ * arrive, so a report never has to exist in memory as a whole.
+ *
+ * <p>Table cells are written left to right and formatted according to their column.
+ */
+public interface ReportWriter {
+
+    void beginReport(String title, LocalDate generatedOn) throws IOException;
+
+    void beginSection(String name) throws IOException;
+
+    void field(String label, String value) throws IOException;
+
+    void field(String label, long value) throws IOException;
+
+    void field(String label, double value, Kind kind) throws IOException;
+
+    void message(String text) throws IOException;
+
+    void beginTable(ReportColumn... columns) throws IOException;
+
+    void cell(String value) throws IOException;
+
+    void cell(long value) throws IOException;
+
+    void cell(double value) throws IOException;
+
+    void endRow() throws IOException;
+
+    void endTable() throws IOException;
+
+    void endSection() throws IOException;
+
+    /**
+     * Finishes the document and flushes the underlying writer; it is not closed.
+     */
+    void endReport() throws IOException;
+}
@@ -0,0 +1,180 @@
+package com.roomify.core.report;
+
+import com.roomify.core.report.ReportColumn.Kind;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Plain-text layout: a banner title, upper-cased section headings, "Label: value" fields
+ * and fixed-width tables. Each line is assembled in a reused buffer and handed to the
+ * writer as soon as it is complete.
+ */
+public class TextReportWriter implements ReportWriter {
+
+    private static final int BANNER_WIDTH = 60;
+
+    private final Writer out;
+    private final StringBuilder line = new StringBuilder(128);
+
+    private LocalDate generatedOn;
+    private ReportColumn[] columns;
+    private int column;
+
+    public TextReportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void beginReport(String title, LocalDate generatedOn) throws IOException {
+        this.generatedOn = generatedOn;
+        repeat('=', BANNER_WIDTH);
+        endLine();
+        NumberFormatter.padRight(line, 0, Math.max(0, (BANNER_WIDTH - title.length()) / 2)).append(title);
+        endLine();
+        repeat('=', BANNER_WIDTH);
+        endLine();
+        endLine();
+    }
+
+    @Override
+    public void beginSection(String name) throws IOException {
+        line.append(name.toUpperCase(Locale.ROOT));
+        endLine();
+        repeat('-', 20);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, String value) throws IOException {
+        line.append(label).append(": ").append(value);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, long value) throws IOException {
+        line.append(label).append(": ").append(value);
+        endLine();
+    }
+
+    @Override
+    public void field(String label, double value, Kind kind) throws IOException {
+        line.append(label).append(": ");
+        appendNumber(value, kind);
+        endLine();
+    }
+
+    @Override
+    public void message(String text) throws IOException {
+        line.append(text);
+        endLine();
+    }
+
+    @Override
+    public void beginTable(ReportColumn... columns) throws IOException {
+        this.columns = columns;
+        this.column = 0;
+
+        int width = 0;
+        for (int i = 0; i < columns.length; i++) {
+            int start = startCell();
+            line.append(columns[i].name());
+            align(start, columns[i]);
+            width += columns[i].width() + (i > 0 ? 1 : 0);
+        }
+        column = 0;
+        endLine();
+        repeat('-', width);
+        endLine();
+    }
+
+    @Override
+    public void cell(String value) throws IOException {
+        int start = startCell();
+        line.append(value);
+        align(start, columns[column - 1]);
+    }
+
+    @Override
+    public void cell(long value) throws IOException {
+        int start = startCell();
+        line.append(value);
+        align(start, columns[column - 1]);
+    }
+
+    @Override
+    public void cell(double value) throws IOException {
+        int start = startCell();
+        ReportColumn current = columns[column - 1];
+        appendNumber(value, current.kind());
+        align(start, current);
+    }
+
+    @Override
+    public void endRow() throws IOException {
+        column = 0;
+        endLine();
+    }
+
+    @Override
+    public void endTable() {
+        columns = null;
+    }
+
+    @Override
+    public void endSection() throws IOException {
+        endLine();
+    }
+
+    @Override
+    public void endReport() throws IOException {
+        repeat('=', BANNER_WIDTH);
+        endLine();
+        if (generatedOn != null) {
+            line.append("Report generated on: ").append(generatedOn);
+            endLine();
+            repeat('=', BANNER_WIDTH);
+        }
+        out.append(line);
+        line.setLength(0);
+        out.flush();
+    }
+
+    private int startCell() {
+        if (column++ > 0) {
+            line.append(' ');
+        }
+        return line.length();
+    }
+
+    private void align(int start, ReportColumn column) {
+        if (column.kind() == Kind.TEXT) {
+            NumberFormatter.padRight(line, start, column.width());
+        } else {
+            NumberFormatter.padLeft(line, start, column.width());
+        }
+    }
+
+    private void appendNumber(double value, Kind kind) {
+        switch (kind) {
+            case MONEY -> NumberFormatter.appendFixed(line.append('$'), value, 2);
+            case PERCENT -> NumberFormatter.appendFixed(line, value, 1).append('%');
+            case DECIMAL -> NumberFormatter.appendFixed(line, value, 1);
+            case INTEGER -> line.append(Math.round(value));
+            case TEXT -> NumberFormatter.appendFixed(line, value, 2);
+        }
+    }
+
+    private void repeat(char c, int count) {
+        for (int i = 0; i < count; i++) {
+            line.append(c);
+        }
+    }
+
+    private void endLine() throws IOException {
+        line.append('\n');
+        out.append(line);
+        line.setLength(0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Compact binary layout shared by the journal and snapshot files:
+ * three length-prefixed UTF-8 strings, two epoch days and the price.
+ */
+final class BookingCodec {
+
+    private static final int NULL_DATE = Integer.MIN_VALUE;
+    private static final short NULL_STRING = -1;
+
+    private BookingCodec() {}
+
+    static byte[] encode(Booking booking) {
+        byte[] id = utf8(booking.getId());
+        byte[] roomId = utf8(booking.getRoomId());
+        byte[] userId = utf8(booking.getUserId());
+
+        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES * 3 + length(id) + length(roomId) + length(userId)
+                + Integer.BYTES * 2 + Double.BYTES);
+        writeBytes(buffer, id);
+        writeBytes(buffer, roomId);
+        writeBytes(buffer, userId);
+        writeDate(buffer, booking.getFrom());
+        writeDate(buffer, booking.getTo());
+        buffer.putDouble(booking.getPrice());
+        return buffer.array();
+    }
+
+    static byte[] encodeId(String id) {
+        byte[] bytes = utf8(id);
+        ByteBuffer buffer = ByteBuffer.allocate(Short.BYTES + length(bytes));
+        writeBytes(buffer, bytes);
+        return buffer.array();
+    }
+
+    static String readId(ByteBuffer buffer) {
+        return readString(buffer);
+    }
+
+    static Booking read(ByteBuffer buffer) {
+        Booking booking = new Booking();
+        booking.setId(readString(buffer));
+        booking.setRoomId(readString(buffer));
+        booking.setUserId(readString(buffer));
+        booking.setFrom(readDate(buffer));
+        booking.setTo(readDate(buffer));
+        booking.setPrice(buffer.getDouble());
+        return booking;
+    }
+
+    private static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Value too long: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static int length(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static void writeBytes(ByteBuffer buffer, byte[] bytes) {
+        if (bytes == null) {
+            buffer.putShort(NULL_STRING);
+            return;
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeDate(ByteBuffer buffer, LocalDate date) {
+        buffer.putInt(date == null ? NULL_DATE : (int) date.toEpochDay());
+    }
+
+    private static LocalDate readDate(ByteBuffer buffer) {
+        int epochDay = buffer.getInt();
+        return epochDay == NULL_DATE ? null : LocalDate.ofEpochDay(epochDay);
+    }
+}
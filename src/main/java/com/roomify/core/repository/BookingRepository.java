@@ -1,12 +1,27 @@
 package com.roomify.core.repository;
 
 import com.roomify.core.dto.Booking;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookingRepository {
+
+    // Longest stay the service accepts; lets stores bound range scans over check-in dates
+    int MAX_STAY_NIGHTS = 30;
+
     Booking save(Booking booking);
     Optional<Booking> findById(String id);
     List<Booking> findByRoomId(String roomId);
-    void delete(String id);
+    // Returns whether this call removed the booking, so concurrent deletes have one winner
+    boolean delete(String id);
+
+    // Date ranges are half-open [from, to); a booking matches when its stay overlaps the range
+    List<Booking> findOverlapping(String roomId, LocalDate from, LocalDate to);
+    boolean existsOverlapping(String roomId, LocalDate from, LocalDate to);
+    List<Booking> findInRange(LocalDate from, LocalDate to);
+
+    // Lazily reads matching bookings; callers must close the stream (try-with-resources)
+    Stream<Booking> streamInRange(LocalDate from, LocalDate to);
 }
@@ -0,0 +1,192 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory booking store with secondary indexes by room, by user and by
+ * check-in date.
+ *
+ * <p>Reads never lock. Writes are serialized and always index the new version of a
+ * booking before unindexing the old one, so a concurrent reader may briefly see both
+ * versions but never misses a booking that exists. Bookings are copied on the way in
+ * and out, which keeps callers from mutating indexed state.
+ */
+public class InMemoryBookingRepository implements BookingRepository {
+
+    private final Map<String, Booking> bookingsById = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<DateKey, Booking>> bookingsByRoom = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentSkipListMap<DateKey, Booking>> bookingsByUser = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<DateKey, Booking> bookingsByDate = new ConcurrentSkipListMap<>();
+    private final Object writeLock = new Object();
+
+    // longest stay seen so far; bounds how far back a range scan over check-in dates must start
+    private volatile long maxStayDays;
+
+    @Override
+    public Booking save(Booking booking) {
+        if (booking.getId() == null) {
+            booking.setId(UUID.randomUUID().toString());
+        }
+        put(new Booking(booking));
+        return booking;
+    }
+
+    @Override
+    public Optional<Booking> findById(String id) {
+        Booking booking = id == null ? null : bookingsById.get(id);
+        return booking == null ? Optional.empty() : Optional.of(new Booking(booking));
+    }
+
+    @Override
+    public List<Booking> findByRoomId(String roomId) {
+        return copyOf(roomId == null ? null : bookingsByRoom.get(roomId));
+    }
+
+    @Override
+    public boolean delete(String id) {
+        return id != null && remove(id);
+    }
+
+    public List<Booking> findByUserId(String userId) {
+        return copyOf(userId == null ? null : bookingsByUser.get(userId));
+    }
+
+    @Override
+    public List<Booking> findOverlapping(String roomId, LocalDate from, LocalDate to) {
+        ConcurrentSkipListMap<DateKey, Booking> roomBookings = roomId == null ? null : bookingsByRoom.get(roomId);
+        if (roomBookings == null) {
+            return new ArrayList<>();
+        }
+        return overlapping(roomBookings, from, to).map(Booking::new).collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean existsOverlapping(String roomId, LocalDate from, LocalDate to) {
+        ConcurrentSkipListMap<DateKey, Booking> roomBookings = roomId == null ? null : bookingsByRoom.get(roomId);
+        return roomBookings != null && overlapping(roomBookings, from, to).findAny().isPresent();
+    }
+
+    @Override
+    public List<Booking> findInRange(LocalDate from, LocalDate to) {
+        try (Stream<Booking> bookings = streamInRange(from, to)) {
+            return bookings.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<Booking> streamInRange(LocalDate from, LocalDate to) {
+        return overlapping(bookingsByDate, from, to).map(Booking::new);
+    }
+
+    public int size() {
+        return bookingsById.size();
+    }
+
+    /**
+     * Stores the given instance as-is; the caller hands over ownership.
+     */
+    void put(Booking booking) {
+        synchronized (writeLock) {
+            Booking previous = bookingsById.put(booking.getId(), booking);
+            index(booking);
+            if (previous != null) {
+                unindex(previous);
+            }
+        }
+    }
+
+    boolean remove(String id) {
+        synchronized (writeLock) {
+            Booking removed = bookingsById.remove(id);
+            if (removed != null) {
+                unindex(removed);
+            }
+            return removed != null;
+        }
+    }
+
+    Collection<Booking> values() {
+        return bookingsById.values();
+    }
+
+    private void index(Booking booking) {
+        DateKey key = DateKey.of(booking);
+        if (booking.getRoomId() != null) {
+            bookingsByRoom.computeIfAbsent(booking.getRoomId(), k -> new ConcurrentSkipListMap<>()).put(key, booking);
+        }
+        if (booking.getUserId() != null) {
+            bookingsByUser.computeIfAbsent(booking.getUserId(), k -> new ConcurrentSkipListMap<>()).put(key, booking);
+        }
+        if (booking.getFrom() != null) {
+            bookingsByDate.put(key, booking);
+            if (booking.getTo() != null) {
+                maxStayDays = Math.max(maxStayDays, booking.getTo().toEpochDay() - booking.getFrom().toEpochDay());
+            }
+        }
+    }
+
+    // Conditional removes: if the new version landed on the same key it must stay
+    private void unindex(Booking booking) {
+        DateKey key = DateKey.of(booking);
+        if (booking.getRoomId() != null) {
+            removeFrom(bookingsByRoom, booking.getRoomId(), key, booking);
+        }
+        if (booking.getUserId() != null) {
+            removeFrom(bookingsByUser, booking.getUserId(), key, booking);
+        }
+        bookingsByDate.remove(key, booking);
+    }
+
+    private Stream<Booking> overlapping(ConcurrentSkipListMap<DateKey, Booking> byCheckIn, LocalDate from, LocalDate to) {
+        // an empty or inverted range overlaps nothing, and would make subMap's bounds cross
+        if (!from.isBefore(to)) {
+            return Stream.empty();
+        }
+        long fromDay = from.toEpochDay();
+        return byCheckIn.subMap(DateKey.lowest(fromDay - maxStayDays), DateKey.lowest(to.toEpochDay()))
+                .values().stream()
+                .filter(booking -> booking.getTo() != null && booking.getTo().toEpochDay() > fromDay);
+    }
+
+    private static void removeFrom(Map<String, ConcurrentSkipListMap<DateKey, Booking>> index,
+                                   String indexKey, DateKey key, Booking booking) {
+        ConcurrentSkipListMap<DateKey, Booking> bookings = index.get(indexKey);
+        if (bookings != null) {
+            bookings.remove(key, booking);
+        }
+    }
+
+    private static List<Booking> copyOf(Map<DateKey, Booking> bookings) {
+        if (bookings == null) {
+            return new ArrayList<>();
+        }
+        List<Booking> result = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings.values()) {
+            result.add(new Booking(booking));
+        }
+        return result;
+    }
+
+    private record DateKey(long fromDay, String id) implements Comparable<DateKey> {
+
+        static DateKey of(Booking booking) {
+            return new DateKey(booking.getFrom() == null ? Long.MIN_VALUE : booking.getFrom().toEpochDay(), booking.getId());
+        }
+
+        static DateKey lowest(long fromDay) {
+            return new DateKey(fromDay, "");
+        }
+
+        @Override
+        public int compareTo(DateKey other) {
+            int byDay = Long.compare(fromDay, other.fromDay);
+            return byDay != 0 ? byDay : id.compareTo(other.id);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Room;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe in-memory room store. Rooms are copied on the way in and out, like
+ * {@link InMemoryBookingRepository}.
+ */
+public class InMemoryRoomRepository implements RoomRepository {
+
+    static final String UNKNOWN_TYPE = "unknown";
+
+    private final Map<String, Room> roomsById = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Room> findById(String id) {
+        Room room = id == null ? null : roomsById.get(id);
+        return room == null ? Optional.empty() : Optional.of(new Room(room));
+    }
+
+    @Override
+    public Room save(Room room) {
+        if (room.getId() == null) {
+            room.setId(UUID.randomUUID().toString());
+        }
+        roomsById.put(room.getId(), new Room(room));
+        return room;
+    }
+
+    @Override
+    public Stream<Room> findAll() {
+        return roomsById.values().stream().map(Room::new);
+    }
+
+    @Override
+    public Map<String, Long> countByType() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Room room : roomsById.values()) {
+            counts.merge(room.getType() == null ? UNKNOWN_TYPE : room.getType(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Room> findByIds(Collection<String> ids) {
+        List<Room> rooms = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Room room = id == null ? null : roomsById.get(id);
+            if (room != null) {
+                rooms.add(new Room(room));
+            }
+        }
+        return rooms;
+    }
+}
@@ -0,0 +1,33 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.User;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread-safe in-memory user store; users are copied on the way in and out.
+ */
+public class InMemoryUserRepository implements UserRepository {
+
+    private final Map<String, User> usersById = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<User> findById(String id) {
+        User user = id == null ? null : usersById.get(id);
+        return user == null ? Optional.empty() : Optional.of(copy(user));
+    }
+
+    public User save(User user) {
+        if (user.getId() == null) {
+            user.setId(UUID.randomUUID().toString());
+        }
+        usersById.put(user.getId(), copy(user));
+        return user;
+    }
+
+    private static User copy(User user) {
+        return new User(user.getId(), user.getEmail(), user.getName());
+    }
+}
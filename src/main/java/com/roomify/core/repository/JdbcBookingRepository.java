@@ -0,0 +1,377 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Relational booking store.
+ *
+ * <p>Overlap checks run in SQL against {@code idx_bookings_room_dates (room_id, from_date, to_date)}.
+ * Because no stay may be longer than {@code maxStayDays} (by default the
+ * {@link BookingRepository#MAX_STAY_NIGHTS} the service accepts), the check-in lower bound keeps the
+ * index range scan to the few bookings around the requested dates instead of the room's
+ * whole history, and {@link #existsOverlapping} touches only indexed columns.
+ *
+ * <p>SQL text is kept in constants so pools and drivers with prepared-statement caching
+ * (H2's per-session query cache, {@code cachePrepStmts} on MySQL, pgjdbc's server-side
+ * statements) reuse the parsed statement on every call.
+ */
+public class JdbcBookingRepository implements BookingRepository {
+
+    public static final int DEFAULT_MAX_STAY_DAYS = MAX_STAY_NIGHTS;
+    private static final int DEFAULT_BATCH_SIZE = 500;
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private static final String[] SCHEMA = {
+            "CREATE TABLE IF NOT EXISTS bookings ("
+                    + "id VARCHAR(64) PRIMARY KEY, "
+                    + "room_id VARCHAR(64) NOT NULL, "
+                    + "user_id VARCHAR(64) NOT NULL, "
+                    + "from_date DATE NOT NULL, "
+                    + "to_date DATE NOT NULL, "
+                    + "price DOUBLE PRECISION NOT NULL)",
+            "CREATE INDEX IF NOT EXISTS idx_bookings_room_dates ON bookings (room_id, from_date, to_date)",
+            "CREATE INDEX IF NOT EXISTS idx_bookings_user ON bookings (user_id)",
+            "CREATE INDEX IF NOT EXISTS idx_bookings_dates ON bookings (from_date, to_date)"
+    };
+
+    private static final String COLUMNS = "id, room_id, user_id, from_date, to_date, price";
+    private static final String INSERT = "INSERT INTO bookings (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE bookings SET room_id = ?, user_id = ?, from_date = ?, to_date = ?, price = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM bookings WHERE id = ?";
+    private static final String SELECT_ID = "SELECT id FROM bookings WHERE id = ?";
+    private static final String SELECT_BY_ID = "SELECT " + COLUMNS + " FROM bookings WHERE id = ?";
+    private static final String SELECT_BY_ROOM = "SELECT " + COLUMNS + " FROM bookings WHERE room_id = ? ORDER BY from_date";
+    private static final String SELECT_BY_USER = "SELECT " + COLUMNS + " FROM bookings WHERE user_id = ? ORDER BY from_date";
+    private static final String SELECT_OVERLAPPING = "SELECT " + COLUMNS + " FROM bookings "
+            + "WHERE room_id = ? AND from_date >= ? AND from_date < ? AND to_date > ? ORDER BY from_date";
+    private static final String SELECT_IN_RANGE = "SELECT " + COLUMNS + " FROM bookings "
+            + "WHERE from_date >= ? AND from_date < ? AND to_date > ? ORDER BY from_date";
+    static final String EXISTS_OVERLAPPING = "SELECT room_id FROM bookings "
+            + "WHERE room_id = ? AND from_date >= ? AND from_date < ? AND to_date > ? LIMIT 1";
+
+    private final DataSource dataSource;
+    private final int maxStayDays;
+    private final int batchSize;
+
+    public JdbcBookingRepository(DataSource dataSource) {
+        this(dataSource, DEFAULT_MAX_STAY_DAYS, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcBookingRepository(DataSource dataSource, int maxStayDays, int batchSize) {
+        this.dataSource = dataSource;
+        this.maxStayDays = maxStayDays;
+        this.batchSize = batchSize;
+    }
+
+    public void createSchema() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String ddl : SCHEMA) {
+                statement.execute(ddl);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot create bookings schema", e);
+        }
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        prepareForWrite(booking);
+
+        // one transaction, so a concurrent delete cannot slip between the update and the insert
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                boolean updated;
+                try (PreparedStatement update = connection.prepareStatement(UPDATE)) {
+                    bindUpdate(update, booking);
+                    updated = update.executeUpdate() > 0;
+                }
+                if (!updated) {
+                    try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                        bindInsert(insert, booking);
+                        insert.executeUpdate();
+                    }
+                }
+                connection.commit();
+                return booking;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save booking " + booking.getId(), e);
+        }
+    }
+
+    /**
+     * Saves many bookings in one transaction using JDBC batches: existing ids are
+     * updated in one batch pass, the rest inserted in another.
+     */
+    public void saveAll(Collection<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        for (Booking booking : bookings) {
+            prepareForWrite(booking);
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                List<Booking> missing = updateBatch(connection, bookings);
+                insertBatch(connection, missing);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot save " + bookings.size() + " bookings", e);
+        }
+    }
+
+    @Override
+    public Optional<Booking> findById(String id) {
+        List<Booking> result = query(SELECT_BY_ID, id);
+        return result.isEmpty() ? Optional.empty() : Optional.of(result.get(0));
+    }
+
+    @Override
+    public List<Booking> findByRoomId(String roomId) {
+        return query(SELECT_BY_ROOM, roomId);
+    }
+
+    public List<Booking> findByUserId(String userId) {
+        return query(SELECT_BY_USER, userId);
+    }
+
+    @Override
+    public List<Booking> findOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return query(SELECT_OVERLAPPING, roomId, from.minusDays(maxStayDays), to, from);
+    }
+
+    @Override
+    public List<Booking> findInRange(LocalDate from, LocalDate to) {
+        return query(SELECT_IN_RANGE, from.minusDays(maxStayDays), to, from);
+    }
+
+    /**
+     * Streams the range through a forward-only cursor. The connection stays open until
+     * the stream is closed, and is read in batches of {@value #STREAM_FETCH_SIZE} rows.
+     */
+    @Override
+    public Stream<Booking> streamInRange(LocalDate from, LocalDate to) {
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            // some drivers (PostgreSQL) only honour the fetch size inside a transaction
+            connection.setAutoCommit(false);
+            PreparedStatement statement = connection.prepareStatement(SELECT_IN_RANGE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(STREAM_FETCH_SIZE);
+            bind(statement, from.minusDays(maxStayDays), to, from);
+            ResultSet rs = statement.executeQuery();
+
+            Connection open = connection;
+            return StreamSupport.stream(new Spliterators.AbstractSpliterator<Booking>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super Booking> action) {
+                    try {
+                        if (!rs.next()) {
+                            return false;
+                        }
+                        action.accept(map(rs));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("Booking stream failed", e);
+                    }
+                }
+            }, false).onClose(() -> closeQuietly(open));
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("Cannot stream bookings", e);
+        }
+    }
+
+    @Override
+    public boolean existsOverlapping(String roomId, LocalDate from, LocalDate to) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(EXISTS_OVERLAPPING)) {
+            bind(statement, roomId, from.minusDays(maxStayDays), to, from);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot check overlapping bookings for room " + roomId, e);
+        }
+    }
+
+    @Override
+    public boolean delete(String id) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            statement.setString(1, id);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot delete booking " + id, e);
+        }
+    }
+
+    private void prepareForWrite(Booking booking) {
+        if (booking.getId() == null) {
+            booking.setId(UUID.randomUUID().toString());
+        }
+        if (ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo()) > maxStayDays) {
+            throw new IllegalArgumentException("Stay longer than " + maxStayDays + " nights");
+        }
+    }
+
+    private List<Booking> updateBatch(Connection connection, Collection<Booking> bookings) throws SQLException {
+        List<Booking> missing = new ArrayList<>();
+        List<Booking> pending = new ArrayList<>(batchSize);
+
+        try (PreparedStatement update = connection.prepareStatement(UPDATE)) {
+            for (Booking booking : bookings) {
+                bindUpdate(update, booking);
+                update.addBatch();
+                pending.add(booking);
+                if (pending.size() == batchSize) {
+                    collectMissing(connection, update.executeBatch(), pending, missing);
+                }
+            }
+            if (!pending.isEmpty()) {
+                collectMissing(connection, update.executeBatch(), pending, missing);
+            }
+        }
+        return missing;
+    }
+
+    private void insertBatch(Connection connection, List<Booking> bookings) throws SQLException {
+        if (bookings.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            int queued = 0;
+            for (Booking booking : bookings) {
+                bindInsert(insert, booking);
+                insert.addBatch();
+                if (++queued == batchSize) {
+                    insert.executeBatch();
+                    queued = 0;
+                }
+            }
+            if (queued > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    // Drivers may report SUCCESS_NO_INFO instead of a row count; those ids are looked up
+    private static void collectMissing(Connection connection, int[] counts, List<Booking> pending,
+                                       List<Booking> missing) throws SQLException {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0 || (counts[i] == Statement.SUCCESS_NO_INFO && !exists(connection, pending.get(i).getId()))) {
+                missing.add(pending.get(i));
+            }
+        }
+        pending.clear();
+    }
+
+    private static boolean exists(Connection connection, String id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SELECT_ID)) {
+            statement.setString(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private List<Booking> query(String sql, Object... parameters) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, parameters);
+            try (ResultSet rs = statement.executeQuery()) {
+                List<Booking> result = new ArrayList<>();
+                while (rs.next()) {
+                    result.add(map(rs));
+                }
+                return result;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Booking query failed", e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException ignored) {
+            // read-only cursor, nothing to lose
+        }
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // the connection is being discarded either way
+        }
+    }
+
+    private static void bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+    }
+
+    private static void bindInsert(PreparedStatement statement, Booking booking) throws SQLException {
+        statement.setString(1, booking.getId());
+        statement.setString(2, booking.getRoomId());
+        statement.setString(3, booking.getUserId());
+        statement.setObject(4, booking.getFrom());
+        statement.setObject(5, booking.getTo());
+        statement.setDouble(6, booking.getPrice());
+    }
+
+    private static void bindUpdate(PreparedStatement statement, Booking booking) throws SQLException {
+        statement.setString(1, booking.getRoomId());
+        statement.setString(2, booking.getUserId());
+        statement.setObject(3, booking.getFrom());
+        statement.setObject(4, booking.getTo());
+        statement.setDouble(5, booking.getPrice());
+        statement.setString(6, booking.getId());
+    }
+
+    static Booking map(ResultSet rs) throws SQLException {
+        return new Booking(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getObject(4, LocalDate.class),
+                rs.getObject(5, LocalDate.class),
+                rs.getDouble(6));
+    }
+}
@@ -0,0 +1,510 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable booking store built on an append-only journal of save/delete events.
+ *
+ * <p>The journal is split into fixed-size, memory-mapped segments. Every
+ * {@code snapshotInterval} records a compact snapshot of all bookings is written and
+ * the segments it covers are deleted, so startup loads the snapshot and replays only
+ * the journal tail. Snapshots are taken without blocking writers: replaying the journal
+ * from the segment opened just before the snapshot started is idempotent, so a snapshot
+ * that also contains some of those later writes still converges to the right state.
+ *
+ * <p>Reads are served from an {@link InMemoryBookingRepository} that mirrors the journal.
+ * Concurrent writers are group-committed: whichever writer reaches the commit point
+ * first forces everything appended so far, and the others return without their own fsync.
+ */
+public class JournalBookingRepository implements BookingRepository, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournalBookingRepository.class);
+
+    public static final int DEFAULT_SEGMENT_BYTES = 64 * 1024 * 1024;
+    public static final long DEFAULT_SNAPSHOT_INTERVAL = 1_000_000;
+
+    private static final String SNAPSHOT_FILE = "bookings.snapshot";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int SNAPSHOT_MAGIC = 0x524d5342;
+    private static final int SNAPSHOT_READ_WINDOW = 256 * 1024 * 1024;
+    private static final int SNAPSHOT_WRITE_BUFFER = 1024 * 1024;
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 2;
+    private static final byte OP_SAVE = 1;
+    private static final byte OP_DELETE = 2;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final long snapshotInterval;
+
+    private final InMemoryBookingRepository state = new InMemoryBookingRepository();
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Object commitMonitor = new Object();
+    private final Object snapshotLock = new Object();
+    private final AtomicBoolean snapshotScheduled = new AtomicBoolean();
+    private final ExecutorService snapshotExecutor;
+
+    private Segment segment;
+    private long appendedSequence;
+    private long recordsSinceSnapshot;
+    private long durableSequence;
+
+    public JournalBookingRepository(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public JournalBookingRepository(Path directory, int segmentBytes, long snapshotInterval) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.snapshotInterval = snapshotInterval;
+        this.snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "booking-journal-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open booking journal in " + directory, e);
+        }
+    }
+
+    @Override
+    public Booking save(Booking booking) {
+        if (booking.getId() == null) {
+            booking.setId(UUID.randomUUID().toString());
+        }
+
+        Booking stored = new Booking(booking);
+        append(OP_SAVE, BookingCodec.encode(stored), () -> state.put(stored));
+        return booking;
+    }
+
+    @Override
+    public Optional<Booking> findById(String id) {
+        return state.findById(id);
+    }
+
+    @Override
+    public List<Booking> findByRoomId(String roomId) {
+        return state.findByRoomId(roomId);
+    }
+
+    @Override
+    public boolean delete(String id) {
+        if (id == null || state.findById(id).isEmpty()) {
+            return false;
+        }
+
+        // re-checked under the append lock: of two racing deletes only one is journaled
+        return append(OP_DELETE, BookingCodec.encodeId(id), () -> state.findById(id).isPresent(),
+                () -> state.remove(id));
+    }
+
+    public List<Booking> findByUserId(String userId) {
+        return state.findByUserId(userId);
+    }
+
+    @Override
+    public List<Booking> findOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return state.findOverlapping(roomId, from, to);
+    }
+
+    @Override
+    public boolean existsOverlapping(String roomId, LocalDate from, LocalDate to) {
+        return state.existsOverlapping(roomId, from, to);
+    }
+
+    @Override
+    public List<Booking> findInRange(LocalDate from, LocalDate to) {
+        return state.findInRange(from, to);
+    }
+
+    @Override
+    public Stream<Booking> streamInRange(LocalDate from, LocalDate to) {
+        return state.streamInRange(from, to);
+    }
+
+    public int size() {
+        return state.size();
+    }
+
+    /**
+     * Writes a snapshot of the current state and drops the journal segments it covers.
+     */
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            long firstSegmentToKeep;
+            appendLock.lock();
+            try {
+                rollSegment();
+                firstSegmentToKeep = segment.id;
+                recordsSinceSnapshot = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot roll booking journal", e);
+            } finally {
+                appendLock.unlock();
+            }
+
+            try {
+                writeSnapshot(firstSegmentToKeep);
+                deleteSegmentsBefore(firstSegmentToKeep);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot write booking snapshot", e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        snapshotExecutor.shutdown();
+        try {
+            snapshotExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        appendLock.lock();
+        try {
+            segment.forceAll();
+            segment.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close booking journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void append(byte op, byte[] payload, Runnable mutation) {
+        append(op, payload, () -> true, mutation);
+    }
+
+    /**
+     * Appends the record and applies the mutation if {@code precondition} holds under the
+     * append lock; returns whether it did.
+     */
+    private boolean append(byte op, byte[] payload, BooleanSupplier precondition, Runnable mutation) {
+        if (RECORD_HEADER_BYTES + 1 + payload.length > segmentBytes) {
+            throw new IllegalArgumentException("Journal record larger than segment size");
+        }
+
+        long sequence;
+        boolean snapshotDue;
+        appendLock.lock();
+        try {
+            if (!precondition.getAsBoolean()) {
+                return false;
+            }
+            if (segment.remaining() < RECORD_HEADER_BYTES + 1 + payload.length) {
+                rollSegment();
+            }
+            segment.append(op, payload);
+            // state is mutated in journal order so replay reproduces exactly what readers saw
+            mutation.run();
+            sequence = ++appendedSequence;
+            snapshotDue = ++recordsSinceSnapshot >= snapshotInterval;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to booking journal", e);
+        } finally {
+            appendLock.unlock();
+        }
+
+        awaitDurable(sequence);
+
+        if (snapshotDue && snapshotScheduled.compareAndSet(false, true)) {
+            snapshotExecutor.execute(() -> {
+                try {
+                    snapshot();
+                } catch (RuntimeException e) {
+                    log.warn("Booking snapshot failed, journal keeps growing until the next attempt", e);
+                } finally {
+                    snapshotScheduled.set(false);
+                }
+            });
+        }
+        return true;
+    }
+
+    private void awaitDurable(long sequence) {
+        synchronized (commitMonitor) {
+            if (durableSequence >= sequence) {
+                return;
+            }
+
+            Segment target;
+            long upTo;
+            int end;
+            appendLock.lock();
+            try {
+                target = segment;
+                upTo = appendedSequence;
+                end = segment.position;
+            } finally {
+                appendLock.unlock();
+            }
+
+            // earlier segments were forced completely when they were rolled
+            target.force(end);
+            durableSequence = upTo;
+        }
+    }
+
+    private void rollSegment() throws IOException {
+        Segment previous = segment;
+        previous.forceAll();
+        segment = Segment.create(segmentPath(previous.id + 1), previous.id + 1, segmentBytes);
+        previous.close();
+    }
+
+    private void recover() throws IOException {
+        long startedAt = System.nanoTime();
+        long firstSegment = loadSnapshot();
+
+        List<Long> segmentIds = listSegmentIds().stream()
+                .filter(id -> id >= firstSegment)
+                .collect(Collectors.toList());
+
+        if (segmentIds.isEmpty()) {
+            segment = Segment.create(segmentPath(firstSegment), firstSegment, segmentBytes);
+        } else {
+            for (int i = 0; i < segmentIds.size() - 1; i++) {
+                try (Segment replayed = Segment.open(segmentPath(segmentIds.get(i)), segmentIds.get(i))) {
+                    replay(replayed);
+                }
+            }
+            long lastId = segmentIds.get(segmentIds.size() - 1);
+            segment = Segment.open(segmentPath(lastId), lastId);
+            replay(segment);
+            segment.discardTail();
+        }
+
+        log.info("Recovered {} bookings from {} in {} ms", state.size(), directory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private void replay(Segment replayed) {
+        MappedByteBuffer buffer = replayed.buffer;
+        int position = 0;
+        CRC32 crc = new CRC32();
+
+        while (position + RECORD_HEADER_BYTES < buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_BYTES + length > buffer.capacity()) {
+                break;
+            }
+
+            ByteBuffer record = buffer.slice(position + RECORD_HEADER_BYTES, length);
+            crc.reset();
+            crc.update(record.duplicate());
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                log.warn("Torn record in {} at offset {}, ignoring the rest of the segment", replayed.path, position);
+                break;
+            }
+
+            byte op = record.get();
+            if (op == OP_SAVE) {
+                state.put(BookingCodec.read(record));
+            } else if (op == OP_DELETE) {
+                state.remove(BookingCodec.readId(record));
+            }
+            position += RECORD_HEADER_BYTES + length;
+        }
+
+        replayed.position = position;
+        replayed.forced = position;
+    }
+
+    private long loadSnapshot() throws IOException {
+        Path path = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long windowStart = 0;
+            MappedByteBuffer window = mapWindow(channel, windowStart, size);
+
+            if (window.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a booking snapshot: " + path);
+            }
+            long firstSegment = window.getLong();
+
+            while (true) {
+                if (window.remaining() < Integer.BYTES) {
+                    windowStart += window.position();
+                    window = mapWindow(channel, windowStart, size);
+                }
+                int length = window.getInt();
+                if (length == 0) {
+                    return firstSegment;
+                }
+                if (window.remaining() < length) {
+                    windowStart += window.position();
+                    window = mapWindow(channel, windowStart, size);
+                }
+                state.put(BookingCodec.read(window));
+            }
+        }
+    }
+
+    private void writeSnapshot(long firstSegmentToKeep) throws IOException {
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temp = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(SNAPSHOT_WRITE_BUFFER);
+            buffer.putInt(SNAPSHOT_MAGIC).putLong(firstSegmentToKeep);
+
+            for (Booking booking : state.values()) {
+                byte[] record = BookingCodec.encode(booking);
+                if (buffer.remaining() < Integer.BYTES + record.length) {
+                    drain(channel, buffer);
+                }
+                buffer.putInt(record.length).put(record);
+            }
+
+            if (buffer.remaining() < Integer.BYTES) {
+                drain(channel, buffer);
+            }
+            buffer.putInt(0);
+            drain(channel, buffer);
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void deleteSegmentsBefore(long segmentId) throws IOException {
+        for (long id : listSegmentIds()) {
+            if (id < segmentId) {
+                Files.deleteIfExists(segmentPath(id));
+            }
+        }
+    }
+
+    private List<Long> listSegmentIds() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(),
+                            name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+
+    private static MappedByteBuffer mapWindow(FileChannel channel, long start, long size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SNAPSHOT_READ_WINDOW, size - start));
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static final class Segment implements Closeable {
+        final long id;
+        final Path path;
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+        int position;
+        int forced;
+
+        private Segment(long id, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.id = id;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path path, long id, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+
+        static Segment open(Path path, long id) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(id, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+        }
+
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        void append(byte op, byte[] payload) {
+            CRC32 crc = new CRC32();
+            crc.update(op);
+            crc.update(payload);
+
+            buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+            buffer.put(position + RECORD_HEADER_BYTES, op);
+            buffer.put(position + RECORD_HEADER_BYTES + 1, payload);
+            buffer.putInt(position, payload.length + 1);
+            position += RECORD_HEADER_BYTES + 1 + payload.length;
+        }
+
+        synchronized void force(int end) {
+            if (end > forced) {
+                buffer.force(forced, end - forced);
+                forced = end;
+            }
+        }
+
+        void forceAll() {
+            force(position);
+        }
+
+        // Zeroes whatever follows the last valid record so a later partial flush cannot revive it
+        void discardTail() {
+            if (position + Integer.BYTES <= buffer.capacity() && buffer.getInt(position) != 0) {
+                byte[] zeros = new byte[Math.min(64 * 1024, buffer.capacity() - position)];
+                for (int offset = position; offset < buffer.capacity(); offset += zeros.length) {
+                    buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+                }
+                buffer.force();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
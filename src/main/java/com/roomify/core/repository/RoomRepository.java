@@ -1,9 +1,22 @@
 package com.roomify.core.repository;
 
 import com.roomify.core.dto.Room;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RoomRepository {
     Optional<Room> findById(String id);
     Room save(Room room);
+
+    // Lazily reads every room; callers must close the stream (try-with-resources)
+    Stream<Room> findAll();
+
+    // Number of rooms per room type
+    Map<String, Long> countByType();
+
+    // Rooms for the given ids in one round trip, in request order; unknown ids are skipped
+    List<Room> findByIds(Collection<String> ids);
 }
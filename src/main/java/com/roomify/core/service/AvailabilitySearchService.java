@@ -0,0 +1,116 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Room;
+import com.roomify.core.dto.RoomQuote;
+import com.roomify.core.repository.RoomRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds rooms that are free for a stay and quotes them, cheapest first.
+ *
+ * <p>Matching rooms are read in one pass, checked with one
+ * {@link AvailabilityService#availableRooms} call and priced with one
+ * {@link PricingService#calculatePrices} call; only the requested page is sorted, kept
+ * in a bounded heap.
+ *
+ * <p>Results are ordered by price, then room id, and paged with an opaque cursor holding
+ * the last (price, room id) of the previous page. A page therefore never repeats a room
+ * from an earlier page, even when bookings or prices change between requests.
+ */
+public class AvailabilitySearchService {
+
+    static final int MAX_LIMIT = 100;
+
+    private static final Comparator<RoomQuote> CHEAPEST_FIRST =
+            Comparator.comparingDouble(RoomQuote::price).thenComparing(RoomQuote::roomId);
+
+    private final RoomRepository roomRepository;
+    private final AvailabilityService availabilityService;
+    private final PricingService pricingService;
+
+    public AvailabilitySearchService(RoomRepository roomRepository, AvailabilityService availabilityService,
+                                     PricingService pricingService) {
+        this.roomRepository = roomRepository;
+        this.availabilityService = availabilityService;
+        this.pricingService = pricingService;
+    }
+
+    /**
+     * @param minCapacity rooms sleeping at least this many guests
+     * @param type        room type, ignoring case; null for any
+     * @param cursor      {@code nextCursor} of the previous page; null for the first page
+     */
+    public RoomQuote.Page search(LocalDate from, LocalDate to, int minCapacity, String type, String cursor, int limit) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        RoomQuote after = cursor == null ? null : decode(cursor);
+
+        Map<String, Room> candidates;
+        try (Stream<Room> rooms = roomRepository.findAll()) {
+            candidates = rooms
+                    .filter(room -> room.getId() != null && room.getCapacity() >= minCapacity)
+                    .filter(room -> type == null || type.equalsIgnoreCase(room.getType()))
+                    .collect(Collectors.toMap(Room::getId, room -> room, (first, second) -> first));
+        }
+
+        Set<String> available = availabilityService.availableRooms(candidates.keySet(), from, to);
+        List<Room> availableRooms = new ArrayList<>(available.size());
+        for (String roomId : available) {
+            availableRooms.add(candidates.get(roomId));
+        }
+        Map<String, Double> prices = pricingService.calculatePrices(availableRooms, from, to);
+
+        // the limit + 1 cheapest quotes past the cursor; the extra one says whether a next page exists
+        PriorityQueue<RoomQuote> cheapest = new PriorityQueue<>(limit + 1, CHEAPEST_FIRST.reversed());
+        for (Room room : availableRooms) {
+            Double price = prices.get(room.getId());
+            if (price == null) {
+                continue;
+            }
+            RoomQuote quote = new RoomQuote(room.getId(), room.getType(), room.getCapacity(), price);
+            if (after != null && CHEAPEST_FIRST.compare(quote, after) <= 0) {
+                continue;
+            }
+            cheapest.add(quote);
+            if (cheapest.size() > limit + 1) {
+                cheapest.poll();
+            }
+        }
+
+        List<RoomQuote> page = new ArrayList<>(cheapest);
+        page.sort(CHEAPEST_FIRST);
+        String nextCursor = null;
+        if (page.size() > limit) {
+            page = page.subList(0, limit);
+            nextCursor = encode(page.get(limit - 1));
+        }
+        return new RoomQuote.Page(page, nextCursor);
+    }
+
+    static String encode(RoomQuote last) {
+        String key = Long.toHexString(Double.doubleToLongBits(last.price())) + ":" + last.roomId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RoomQuote decode(String cursor) {
+        try {
+            String key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = key.indexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            double price = Double.longBitsToDouble(Long.parseUnsignedLong(key.substring(0, separator), 16));
+            return new RoomQuote(key.substring(separator + 1), null, 0, price);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -5,11 +5,12 @@ import com.roomify.core.repository.BookingRepository;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.stream.Stream;
 
 
 public class AvailabilityService {
 
-    private static final int MAX_BOOKING_DAYS = 30;
+    private static final int MAX_BOOKING_DAYS = BookingRepository.MAX_STAY_NIGHTS;
     private static final int MIN_BOOKING_DAYS = 1;
     private static final int MAX_ADVANCE_BOOKING_DAYS = 365;
     private static final int WEEKEND_MIN_NIGHTS_PREMIUM_ROOMS = 2;
@@ -76,6 +77,41 @@ public class AvailabilityService {
         return availability;
     }
 
+    /**
+     * The rooms among {@code roomIds} that {@link #isAvailable} would accept, found with one
+     * range query for all of them instead of an overlap query per room.
+     */
+    public Set<String> availableRooms(Collection<String> roomIds, LocalDate from, LocalDate to) {
+        Set<String> available = new HashSet<>();
+        if (bookingRepository == null) {
+            for (String roomId : roomIds) {
+                if (roomId != null) {
+                    available.add(roomId); // Backward compatibility mode
+                }
+            }
+            return available;
+        }
+        if (roomIds.isEmpty() || from == null || to == null || !from.isBefore(to) || from.isBefore(LocalDate.now())) {
+            return available;
+        }
+
+        Set<String> bookedRooms = new HashSet<>();
+        try (Stream<Booking> bookings = bookingRepository.streamInRange(from, to)) {
+            bookings.filter(booking -> datesOverlap(from, to, booking.getFrom(), booking.getTo()))
+                    .forEach(booking -> bookedRooms.add(booking.getRoomId()));
+        }
+
+        for (String roomId : roomIds) {
+            if (roomId != null && !bookedRooms.contains(roomId) &&
+                    !isRoomUnderMaintenance(roomId) &&
+                    !hasBlockedDatesInRange(roomId, from, to) &&
+                    meetBusinessRules(roomId, from, to)) {
+                available.add(roomId);
+            }
+        }
+        return available;
+    }
+
     private void initializeMaintenanceRooms() {
         maintenanceRooms.add("room-maintenance-1");
         maintenanceRooms.add("room-maintenance-2");
@@ -126,10 +162,7 @@ public class AvailabilityService {
             return false;
         }
 
-        List<Booking> existingBookings = bookingRepository.findByRoomId(roomId);
-
-        return existingBookings.stream()
-                .anyMatch(booking -> datesOverlap(from, to, booking.getFrom(), booking.getTo()));
+        return bookingRepository.existsOverlapping(roomId, from, to);
     }
 
     private boolean datesOverlap(LocalDate start1, LocalDate end1, LocalDate start2, LocalDate end2) {
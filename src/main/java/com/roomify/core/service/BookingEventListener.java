@@ -0,0 +1,59 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import java.util.List;
+
+/**
+ * Callback for components that maintain state derived from bookings. Invoked by
+ * {@link BookingService} after the repository change has been made.
+ */
+public interface BookingEventListener {
+
+    BookingEventListener NONE = new BookingEventListener() {
+        @Override
+        public void onBookingSaved(Booking booking) {
+        }
+
+        @Override
+        public void onBookingCancelled(Booking booking) {
+        }
+    };
+
+    void onBookingSaved(Booking booking);
+
+    /**
+     * A save that replaced {@code previous}, or created the booking when it is null, so
+     * listeners can drop what the earlier version contributed without remembering it.
+     */
+    default void onBookingSaved(Booking previous, Booking booking) {
+        onBookingSaved(booking);
+    }
+
+    void onBookingCancelled(Booking booking);
+
+    static BookingEventListener composite(List<? extends BookingEventListener> listeners) {
+        List<BookingEventListener> copy = List.copyOf(listeners);
+        return new BookingEventListener() {
+            @Override
+            public void onBookingSaved(Booking booking) {
+                for (BookingEventListener listener : copy) {
+                    listener.onBookingSaved(booking);
+                }
+            }
+
+            @Override
+            public void onBookingSaved(Booking previous, Booking booking) {
+                for (BookingEventListener listener : copy) {
+                    listener.onBookingSaved(previous, booking);
+                }
+            }
+
+            @Override
+            public void onBookingCancelled(Booking booking) {
+                for (BookingEventListener listener : copy) {
+                    listener.onBookingCancelled(booking);
+                }
+            }
+        };
+    }
+}
@@ -3,11 +3,18 @@ package com.roomify.core.service;
 import com.roomify.core.dto.Booking;
 import com.roomify.core.dto.BookingRequest;
 import com.roomify.core.dto.PaymentResult;
+import com.roomify.core.metrics.BookingMetrics;
+import com.roomify.core.metrics.BookingMetrics.Rejection;
+import com.roomify.core.metrics.BookingMetrics.Stage;
 import com.roomify.core.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 
 public class BookingService {
 
+    private static final Logger log = LoggerFactory.getLogger(BookingService.class);
+
     private final BookingRepository bookingRepository;
     private final AvailabilityService availabilityService;
     private final PaymentService paymentService;
@@ -16,6 +23,9 @@ public class BookingService {
     private final DiscountService discountService;
     private final NotificationService notificationService;
     private final InvoiceService invoiceService;
+    private final CancellationPolicyService cancellationPolicyService;
+    private final BookingEventListener bookingEventListener;
+    private final BookingMetrics metrics;
 
     public BookingService(BookingRepository bookingRepository,
                           AvailabilityService availabilityService,
@@ -24,7 +34,25 @@ public class BookingService {
                           PricingService pricingService,
                           DiscountService discountService,
                           NotificationService notificationService,
-                          InvoiceService invoiceService) {
+                          InvoiceService invoiceService,
+                          CancellationPolicyService cancellationPolicyService,
+                          BookingEventListener bookingEventListener) {
+        this(bookingRepository, availabilityService, paymentService, bookingValidator, pricingService,
+                discountService, notificationService, invoiceService, cancellationPolicyService,
+                bookingEventListener, BookingMetrics.NONE);
+    }
+
+    public BookingService(BookingRepository bookingRepository,
+                          AvailabilityService availabilityService,
+                          PaymentService paymentService,
+                          BookingValidator bookingValidator,
+                          PricingService pricingService,
+                          DiscountService discountService,
+                          NotificationService notificationService,
+                          InvoiceService invoiceService,
+                          CancellationPolicyService cancellationPolicyService,
+                          BookingEventListener bookingEventListener,
+                          BookingMetrics metrics) {
         this.bookingRepository = bookingRepository;
         this.availabilityService = availabilityService;
         this.paymentService = paymentService;
@@ -33,34 +61,130 @@ public class BookingService {
         this.discountService = discountService;
         this.notificationService = notificationService;
         this.invoiceService = invoiceService;
+        this.cancellationPolicyService = cancellationPolicyService;
+        this.bookingEventListener = bookingEventListener;
+        this.metrics = metrics;
     }
 
     public Booking createBooking(BookingRequest request) {
-        bookingValidator.validate(request);
+        long startedAt = metrics.start();
+        try {
+            bookingValidator.validate(request);
+        } catch (IllegalArgumentException e) {
+            metrics.rejected(Rejection.INVALID_REQUEST);
+            throw e;
+        }
+        long lap = metrics.lap(Stage.VALIDATION, startedAt);
 
-        if (!availabilityService.isAvailable(request.roomId(), request.from(), request.to())) {
+        boolean available = availabilityService.isAvailable(request.roomId(), request.from(), request.to());
+        lap = metrics.lap(Stage.AVAILABILITY, lap);
+        if (!available) {
+            metrics.rejected(Rejection.UNAVAILABLE);
             throw new IllegalArgumentException("Room not available");
         }
 
         double basePrice = pricingService.calculatePrice(request.roomId(), request.from(), request.to());
+        lap = metrics.lap(Stage.PRICING, lap);
         double finalPrice = discountService.applyDiscount(request.userId(), basePrice);
+        lap = metrics.lap(Stage.DISCOUNT, lap);
 
         PaymentResult payment = paymentService.charge(request.userId(), finalPrice);
+        lap = metrics.lap(Stage.PAYMENT, lap);
         if (!payment.isSuccess()) {
+            metrics.rejected(Rejection.PAYMENT_DECLINED);
             throw new IllegalStateException("Payment failed");
         }
 
         Booking booking = createBookingEntity(request, finalPrice);
-        Booking savedBooking = bookingRepository.save(booking);
+        Booking savedBooking = saveOrRefund(booking, request.userId(), finalPrice);
+        bookingEventListener.onBookingSaved(null, savedBooking);
+        lap = metrics.lap(Stage.PERSISTENCE, lap);
 
         processPostBookingTasks(request.userId(), savedBooking.getId());
+        metrics.lap(Stage.NOTIFICATION, lap);
+        metrics.completed(startedAt);
 
         return savedBooking;
     }
 
 
-    public void cancelBooking(String bookingId) {
-        bookingRepository.delete(bookingId);
+    public double cancelBooking(String bookingId) {
+        Booking booking = bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new IllegalArgumentException("Booking not found"));
+
+        double refund = cancellationPolicyService.refundFor(booking);
+
+        // Removing first makes the cancel atomic: of two concurrent cancels only the one whose
+        // delete removed the booking refunds it. Availability is derived from the repository,
+        // so the removal also frees the booking's nights.
+        if (!bookingRepository.delete(bookingId)) {
+            throw new IllegalArgumentException("Booking not found");
+        }
+        if (refund > 0) {
+            try {
+                refund(booking, refund);
+            } catch (RuntimeException e) {
+                if (!restore(booking, e)) {
+                    // the booking stays cancelled, so derived state must still drop it
+                    bookingEventListener.onBookingCancelled(booking);
+                }
+                throw e;
+            }
+        }
+        bookingEventListener.onBookingCancelled(booking);
+
+        // the cancellation is done; a notification that cannot be sent must not undo or fail it
+        try {
+            notificationService.notifyBookingCancelled(booking.getUserId(), bookingId, refund);
+        } catch (RuntimeException e) {
+            log.warn("Cancellation notice for booking {} not sent", bookingId, e);
+        }
+
+        return refund;
+    }
+
+    // The guest has paid by now: a booking that cannot be stored is refunded, not kept
+    private Booking saveOrRefund(Booking booking, String userId, double amount) {
+        try {
+            return bookingRepository.save(booking);
+        } catch (RuntimeException e) {
+            try {
+                if (!paymentService.refund(userId, amount).isSuccess()) {
+                    log.error("Refund of {} to user {} declined after a failed booking save", amount, userId);
+                }
+            } catch (RuntimeException refundFailure) {
+                e.addSuppressed(refundFailure);
+                log.error("Refund of {} to user {} failed after a failed booking save", amount, userId, refundFailure);
+            }
+            throw e;
+        }
+    }
+
+    private void refund(Booking booking, double refund) {
+        if (!paymentService.refund(booking.getUserId(), refund).isSuccess()) {
+            throw new IllegalStateException("Refund failed");
+        }
+    }
+
+    // A refund that did not go through puts the booking back, so the guest can try again.
+    // Its nights were free while the refund ran: if another booking took them, putting it
+    // back would double-book the room, so it stays cancelled and the refund is left to support.
+    // Returns whether the booking was restored; a failed restore is attached to refundFailure.
+    private boolean restore(Booking booking, RuntimeException refundFailure) {
+        if (bookingRepository.existsOverlapping(booking.getRoomId(), booking.getFrom(), booking.getTo())) {
+            log.error("Refund for booking {} failed and its nights were rebooked; it stays cancelled without a refund",
+                    booking.getId(), refundFailure);
+            return false;
+        }
+        try {
+            bookingRepository.save(booking);
+            return true;
+        } catch (RuntimeException restoreFailure) {
+            refundFailure.addSuppressed(restoreFailure);
+            log.error("Refund for booking {} failed and the booking could not be restored; it stays cancelled "
+                    + "without a refund", booking.getId(), refundFailure);
+            return false;
+        }
     }
 
     private Booking createBookingEntity(BookingRequest request, double finalPrice) {
@@ -73,8 +197,14 @@ public class BookingService {
         return booking;
     }
 
+    // Runs after payment and save: a notification that cannot be sent is logged, because
+    // failing the request here would make the client retry and pay twice
     private void processPostBookingTasks(String userId, String bookingId) {
-        notificationService.notifyBookingCreated(userId, bookingId);
+        try {
+            notificationService.notifyBookingCreated(userId, bookingId);
+        } catch (RuntimeException e) {
+            log.warn("Booking confirmation for {} not sent", bookingId, e);
+        }
         invoiceService.generateInvoiceId();
     }
 }
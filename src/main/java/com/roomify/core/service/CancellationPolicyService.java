@@ -1,7 +1,88 @@
 package com.roomify.core.service;
 
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.BookingRepository;
+import com.roomify.core.repository.RoomRepository;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
 public class CancellationPolicyService {
+
+    private static final double FULL_REFUND = 1.0;
+    private static final double NO_REFUND = 0.0;
+
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final Clock clock;
+
+    public CancellationPolicyService() {
+        this(null, null);
+    }
+
+    public CancellationPolicyService(BookingRepository bookingRepository, RoomRepository roomRepository) {
+        this(bookingRepository, roomRepository, Clock.systemDefaultZone());
+    }
+
+    public CancellationPolicyService(BookingRepository bookingRepository, RoomRepository roomRepository, Clock clock) {
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.clock = clock;
+    }
+
     public double refundAmount(String bookingId) {
-        return 0.0;
+        if (bookingRepository == null || bookingId == null || bookingId.isEmpty()) {
+            return 0.0;
+        }
+
+        return bookingRepository.findById(bookingId)
+                .map(this::refundFor)
+                .orElse(0.0);
+    }
+
+    public double refundFor(Booking booking) {
+        return refundFor(booking, LocalDate.now(clock));
+    }
+
+    public double refundFor(Booking booking, LocalDate cancellationDate) {
+        if (booking == null || booking.getFrom() == null || booking.getPrice() <= 0) {
+            return 0.0;
+        }
+
+        long daysBeforeCheckIn = ChronoUnit.DAYS.between(cancellationDate, booking.getFrom());
+        double refundRate = isPremiumRoom(booking.getRoomId())
+                ? premiumRefundRate(daysBeforeCheckIn)
+                : standardRefundRate(daysBeforeCheckIn);
+
+        return Math.round(booking.getPrice() * refundRate * 100.0) / 100.0;
+    }
+
+    private double standardRefundRate(long daysBeforeCheckIn) {
+        if (daysBeforeCheckIn >= 14) return FULL_REFUND;
+        if (daysBeforeCheckIn >= 7) return 0.75;
+        if (daysBeforeCheckIn >= 2) return 0.5;
+        return NO_REFUND;
+    }
+
+    // Suites and premium rooms are harder to resell at short notice
+    private double premiumRefundRate(long daysBeforeCheckIn) {
+        if (daysBeforeCheckIn >= 30) return FULL_REFUND;
+        if (daysBeforeCheckIn >= 14) return 0.5;
+        if (daysBeforeCheckIn >= 7) return 0.25;
+        return NO_REFUND;
+    }
+
+    private boolean isPremiumRoom(String roomId) {
+        if (roomId == null) {
+            return false;
+        }
+
+        String type = roomId;
+        if (roomRepository != null) {
+            type = roomRepository.findById(roomId).map(Room::getType).orElse(roomId);
+        }
+
+        return type.contains("suite") || type.contains("premium") || type.contains("penthouse");
     }
 }
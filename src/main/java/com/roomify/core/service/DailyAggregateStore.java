@@ -0,0 +1,373 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.RangeMetrics;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Per-day revenue, room-night and check-in aggregates, in total and per room, kept up
+ * to date from booking events for a fixed window of days.
+ *
+ * <p>The totals are {@link RangeFenwickTree}s over the window, so both applying a booking
+ * and answering a [from, to) query cost O(log days). Per-room figures are kept in blocks
+ * of {@value #BLOCK_DAYS} days that are allocated when a booking first touches them and
+ * dropped once empty again, so memory follows the nights actually booked rather than
+ * rooms times window days. Revenue is spread evenly over the nights of a stay, the same way the
+ * monthly report pro-rates it; bookings are counted on their check-in day. A stay that
+ * crosses the window edge contributes only its nights inside the window.
+ *
+ * <p>The store remembers what each booking contributed, so a re-save replaces the
+ * earlier version and a cancellation removes exactly what was added.
+ */
+public class DailyAggregateStore implements BookingEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(DailyAggregateStore.class);
+
+    private static final int BLOCK_DAYS = 64;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Contribution> contributions = new HashMap<>();
+    private final Map<String, RoomSeries> seriesByRoom = new HashMap<>();
+    // ids saved or cancelled by events while a load runs; the load must not overwrite them
+    private final Set<String> changedDuringLoad = new HashSet<>();
+    private final LocalDate windowStart;
+    private final LocalDate windowEnd;
+    private final long originDay;
+    private final int days;
+    private final Series total;
+    private boolean loading;
+    private boolean ready = true;
+
+    /**
+     * Store covering the days of [windowStart, windowEnd).
+     */
+    public DailyAggregateStore(LocalDate windowStart, LocalDate windowEnd) {
+        if (windowStart == null || windowEnd == null || !windowStart.isBefore(windowEnd)) {
+            throw new IllegalArgumentException("Invalid aggregate window");
+        }
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+        this.originDay = windowStart.toEpochDay();
+        this.days = Math.toIntExact(windowEnd.toEpochDay() - originDay);
+        this.total = new Series(days);
+    }
+
+    public LocalDate windowStart() {
+        return windowStart;
+    }
+
+    public LocalDate windowEnd() {
+        return windowEnd;
+    }
+
+    /**
+     * Applies every booking of the stream, e.g. to seed the store from the repository.
+     * Booking events that arrive while the load runs win over what the stream returns.
+     */
+    public void load(Stream<Booking> bookings) {
+        startLoading();
+        runLoad(bookings);
+    }
+
+    /**
+     * Runs {@link #load} on a background thread. Until it finishes {@link #canAnswer}
+     * is false, so callers fall back to scanning instead of reading a partial store.
+     */
+    public void loadInBackground(Supplier<Stream<Booking>> bookings) {
+        startLoading();
+        Thread thread = new Thread(() -> {
+            try (Stream<Booking> stream = bookings.get()) {
+                runLoad(stream);
+                log.info("Daily aggregates loaded for {} to {}", windowStart, windowEnd);
+            } catch (RuntimeException e) {
+                log.error("Loading daily aggregates failed; reports will scan bookings instead", e);
+            }
+        }, "daily-aggregates-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Whether [from, to) lies inside the window and the store has finished loading.
+     */
+    public boolean canAnswer(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            return ready && !from.isBefore(windowStart) && !to.isAfter(windowEnd);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        if (booking.getId() == null) {
+            return;
+        }
+        Contribution contribution = Contribution.of(booking);
+
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                changedDuringLoad.add(booking.getId());
+            }
+            replace(booking.getId(), contribution);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onBookingCancelled(Booking booking) {
+        if (booking.getId() == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                changedDuringLoad.add(booking.getId());
+            }
+            replace(booking.getId(), null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public RangeMetrics metrics(LocalDate from, LocalDate to) {
+        return metrics(null, from, to);
+    }
+
+    /**
+     * Totals for [from, to) for one room, or for all rooms when {@code roomId} is null.
+     * Days outside the window count as empty.
+     */
+    public RangeMetrics metrics(String roomId, LocalDate from, LocalDate to) {
+        int first = clamp(from.toEpochDay());
+        int last = clamp(to.toEpochDay());
+
+        lock.readLock().lock();
+        try {
+            if (roomId == null) {
+                return new RangeMetrics(null, from, to,
+                        total.revenue.sum(first, last),
+                        Math.round(total.roomNights.sum(first, last)),
+                        Math.round(total.checkIns.sum(first, last)));
+            }
+            RoomSeries series = seriesByRoom.get(roomId);
+            return series == null
+                    ? new RangeMetrics(roomId, from, to, 0, 0, 0)
+                    : series.metrics(roomId, from, to, first, last);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rooms that have at least one booked night or check-in inside the window.
+     */
+    public Set<String> roomIds() {
+        lock.readLock().lock();
+        try {
+            return new TreeSet<>(seriesByRoom.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void applyLoaded(Booking booking) {
+        if (booking.getId() == null) {
+            return;
+        }
+        Contribution contribution = Contribution.of(booking);
+
+        lock.writeLock().lock();
+        try {
+            if (!changedDuringLoad.contains(booking.getId())) {
+                replace(booking.getId(), contribution);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void startLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            ready = false;
+            changedDuringLoad.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void runLoad(Stream<Booking> bookings) {
+        boolean completed = false;
+        try {
+            bookings.forEach(this::applyLoaded);
+            completed = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                // a failed load leaves the store unreadable rather than half-built
+                loading = false;
+                ready = completed;
+                changedDuringLoad.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    // caller holds the write lock
+    private void replace(String bookingId, Contribution contribution) {
+        Contribution previous = contributions.remove(bookingId);
+        if (previous != null) {
+            apply(previous, -1);
+        }
+        if (contribution != null && clamp(contribution.fromDay()) < clamp(contribution.toDay())) {
+            apply(contribution, 1);
+            contributions.put(bookingId, contribution);
+        }
+    }
+
+    private void apply(Contribution contribution, int sign) {
+        int first = clamp(contribution.fromDay());
+        int last = clamp(contribution.toDay());
+        boolean checkIn = contribution.fromDay() >= originDay;
+        double nightlyRevenue = sign * contribution.price() / (contribution.toDay() - contribution.fromDay());
+
+        total.add(first, last, nightlyRevenue, sign, checkIn);
+
+        RoomSeries series = seriesByRoom.computeIfAbsent(contribution.roomId(), k -> new RoomSeries(days));
+        for (int day = first; day < last; day++) {
+            series.add(day, nightlyRevenue, sign, checkIn && day == first ? sign : 0);
+        }
+        if (series.isEmpty()) {
+            seriesByRoom.remove(contribution.roomId());
+        }
+    }
+
+    private int clamp(long epochDay) {
+        return (int) Math.max(0, Math.min(days, epochDay - originDay));
+    }
+
+    private record Contribution(String roomId, long fromDay, long toDay, double price) {
+
+        static Contribution of(Booking booking) {
+            if (booking.getRoomId() == null || booking.getFrom() == null || booking.getTo() == null
+                    || !booking.getTo().isAfter(booking.getFrom())) {
+                return null;
+            }
+            return new Contribution(booking.getRoomId(), booking.getFrom().toEpochDay(),
+                    booking.getTo().toEpochDay(), booking.getPrice());
+        }
+    }
+
+    private static final class Series {
+        final RangeFenwickTree revenue;
+        final RangeFenwickTree roomNights;
+        final RangeFenwickTree checkIns;
+
+        Series(int days) {
+            this.revenue = new RangeFenwickTree(days);
+            this.roomNights = new RangeFenwickTree(days);
+            this.checkIns = new RangeFenwickTree(days);
+        }
+
+        void add(int first, int last, double nightlyRevenue, int sign, boolean checkIn) {
+            revenue.add(first, last, nightlyRevenue);
+            roomNights.add(first, last, sign);
+            if (checkIn) {
+                checkIns.add(first, first + 1, sign);
+            }
+        }
+    }
+
+    private static final class RoomSeries {
+        final Block[] blocks;
+        int liveBlocks;
+
+        RoomSeries(int days) {
+            this.blocks = new Block[(days + BLOCK_DAYS - 1) / BLOCK_DAYS];
+        }
+
+        boolean isEmpty() {
+            return liveBlocks == 0;
+        }
+
+        void add(int day, double revenue, int roomNights, int checkIns) {
+            int index = day / BLOCK_DAYS;
+            Block block = blocks[index];
+            if (block == null) {
+                block = new Block();
+                blocks[index] = block;
+                liveBlocks++;
+            }
+            block.add(day % BLOCK_DAYS, revenue, roomNights, checkIns);
+            if (block.isEmpty()) {
+                // also drops whatever rounding error the removed revenue left behind
+                blocks[index] = null;
+                liveBlocks--;
+            }
+        }
+
+        RangeMetrics metrics(String roomId, LocalDate from, LocalDate to, int first, int last) {
+            double revenue = 0;
+            long roomNights = 0;
+            long checkIns = 0;
+            for (int index = first / BLOCK_DAYS; index * BLOCK_DAYS < last; index++) {
+                Block block = blocks[index];
+                if (block == null) {
+                    continue;
+                }
+                int start = index * BLOCK_DAYS;
+                int lo = Math.max(first, start) - start;
+                int hi = Math.min(last, start + BLOCK_DAYS) - start;
+                if (lo == 0 && hi == BLOCK_DAYS) {
+                    revenue += block.revenueSum;
+                    roomNights += block.roomNightsSum;
+                    checkIns += block.checkInsSum;
+                    continue;
+                }
+                for (int i = lo; i < hi; i++) {
+                    revenue += block.revenue[i];
+                    roomNights += block.roomNights[i];
+                    checkIns += block.checkIns[i];
+                }
+            }
+            return new RangeMetrics(roomId, from, to, revenue, roomNights, checkIns);
+        }
+    }
+
+    private static final class Block {
+        final double[] revenue = new double[BLOCK_DAYS];
+        final int[] roomNights = new int[BLOCK_DAYS];
+        final int[] checkIns = new int[BLOCK_DAYS];
+        double revenueSum;
+        long roomNightsSum;
+        long checkInsSum;
+
+        void add(int offset, double revenue, int roomNights, int checkIns) {
+            this.revenue[offset] += revenue;
+            this.roomNights[offset] += roomNights;
+            this.checkIns[offset] += checkIns;
+            revenueSum += revenue;
+            roomNightsSum += roomNights;
+            checkInsSum += checkIns;
+        }
+
+        // every stay has at least one night, so no nights and no check-ins means no bookings
+        boolean isEmpty() {
+            return roomNightsSum == 0 && checkInsSum == 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.roomify.core.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes booking notifications to the application log until a mail or push channel is
+ * configured.
+ */
+public class LoggingNotificationService implements NotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingNotificationService.class);
+
+    @Override
+    public void notifyBookingCreated(String userId, String bookingId) {
+        log.info("Booking {} created for user {}", bookingId, userId);
+    }
+
+    @Override
+    public void notifyBookingCancelled(String userId, String bookingId, double refundAmount) {
+        log.info("Booking {} cancelled for user {}, refund {}", bookingId, userId, refundAmount);
+    }
+}
@@ -0,0 +1,193 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Collects every figure of the monthly report in one pass over the (already clipped)
+ * bookings of the period: revenue, stay lengths, per-room and per-customer totals and
+ * the daily occupancy series.
+ *
+ * <p>The daily series uses difference arrays indexed by day of the period: a stay adds
+ * its room and nightly revenue on check-in day and removes them on check-out day, and
+ * one prefix sum at the end turns the deltas into per-day values. That is O(1) per
+ * booking regardless of stay length, and O(bookings + days) overall.
+ */
+final class MonthlyReportAccumulator {
+
+    private static final double REVENUE_EPSILON = 1e-6;
+
+    private final long periodStartDay;
+    private final int days;
+    private final int[] occupancyDelta;
+    private final double[] revenueDelta;
+    private final Map<String, RoomTotals> roomTotals = new HashMap<>();
+    private final Map<String, CustomerTotals> customerTotals = new HashMap<>();
+
+    private int bookingCount;
+    private double totalRevenue;
+    private long totalNights;
+    private int shortestStay = Integer.MAX_VALUE;
+    private int longestStay;
+
+    private int[] roomsOccupiedByDay;
+    private double[] revenueByDay;
+
+    MonthlyReportAccumulator(LocalDate periodStart, LocalDate periodEnd) {
+        this.periodStartDay = periodStart.toEpochDay();
+        this.days = (int) (periodEnd.toEpochDay() - periodStartDay);
+        this.occupancyDelta = new int[days + 1];
+        this.revenueDelta = new double[days + 1];
+    }
+
+    void add(Booking booking) {
+        int nights = (int) ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo());
+        double price = booking.getPrice();
+
+        bookingCount++;
+        totalRevenue += price;
+        totalNights += nights;
+        shortestStay = Math.min(shortestStay, nights);
+        longestStay = Math.max(longestStay, nights);
+
+        RoomTotals room = roomTotals.computeIfAbsent(booking.getRoomId(), RoomTotals::new);
+        room.bookings++;
+        room.revenue += price;
+        room.nights += nights;
+
+        CustomerTotals customer = customerTotals.computeIfAbsent(booking.getUserId(), CustomerTotals::new);
+        customer.bookings++;
+        customer.revenue += price;
+
+        if (nights > 0) {
+            double nightlyRevenue = price / nights;
+            int first = (int) Math.max(0, booking.getFrom().toEpochDay() - periodStartDay);
+            int last = (int) Math.min(days, booking.getTo().toEpochDay() - periodStartDay);
+            if (first < last) {
+                occupancyDelta[first]++;
+                occupancyDelta[last]--;
+                revenueDelta[first] += nightlyRevenue;
+                revenueDelta[last] -= nightlyRevenue;
+            }
+            roomsOccupiedByDay = null;
+        }
+    }
+
+    int bookingCount() {
+        return bookingCount;
+    }
+
+    double totalRevenue() {
+        return totalRevenue;
+    }
+
+    double averageBookingValue() {
+        return bookingCount == 0 ? 0 : totalRevenue / bookingCount;
+    }
+
+    double averageStayLength() {
+        return bookingCount == 0 ? 0 : (double) totalNights / bookingCount;
+    }
+
+    int shortestStay() {
+        return bookingCount == 0 ? 0 : shortestStay;
+    }
+
+    int longestStay() {
+        return longestStay;
+    }
+
+    Collection<RoomTotals> roomTotals() {
+        return roomTotals.values();
+    }
+
+    int days() {
+        return days;
+    }
+
+    int roomsOccupied(int day) {
+        return dailySeries()[day];
+    }
+
+    double revenue(int day) {
+        dailySeries();
+        return revenueByDay[day];
+    }
+
+    /**
+     * Earliest day with the highest occupancy, or -1 when nothing was booked.
+     */
+    int peakDay() {
+        int[] occupied = dailySeries();
+        int peak = -1;
+        for (int day = 0; day < days; day++) {
+            if (occupied[day] > 0 && (peak < 0 || occupied[day] > occupied[peak])) {
+                peak = day;
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * The {@code k} customers with the highest revenue, highest first. Uses a bounded
+     * min-heap, so it costs O(customers log k) instead of sorting every customer.
+     */
+    List<CustomerTotals> topCustomers(int k) {
+        PriorityQueue<CustomerTotals> heap = new PriorityQueue<>(k + 1, Comparator.comparingDouble(c -> c.revenue));
+        for (CustomerTotals customer : customerTotals.values()) {
+            heap.offer(customer);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+
+        List<CustomerTotals> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingDouble((CustomerTotals c) -> c.revenue).reversed());
+        return top;
+    }
+
+    private int[] dailySeries() {
+        if (roomsOccupiedByDay == null) {
+            int[] occupied = new int[days];
+            double[] revenue = new double[days];
+            int runningRooms = 0;
+            double runningRevenue = 0;
+            for (int day = 0; day < days; day++) {
+                runningRooms += occupancyDelta[day];
+                runningRevenue += revenueDelta[day];
+                // adding and removing the same doubles can leave a tiny residue on empty days
+                if (runningRooms == 0 || Math.abs(runningRevenue) < REVENUE_EPSILON) {
+                    runningRevenue = 0;
+                }
+                occupied[day] = runningRooms;
+                revenue[day] = runningRevenue;
+            }
+            revenueByDay = revenue;
+            roomsOccupiedByDay = occupied;
+        }
+        return roomsOccupiedByDay;
+    }
+
+    static final class RoomTotals {
+        final String roomId;
+        int bookings;
+        double revenue;
+        int nights;
+
+        RoomTotals(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+
+    static final class CustomerTotals {
+        final String userId;
+        int bookings;
+        double revenue;
+
+        CustomerTotals(String userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -2,4 +2,5 @@ package com.roomify.core.service;
 
 public interface NotificationService {
     void notifyBookingCreated(String userId, String bookingId);
+    void notifyBookingCancelled(String userId, String bookingId, double refundAmount);
 }
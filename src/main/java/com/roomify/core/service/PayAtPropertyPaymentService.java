@@ -0,0 +1,28 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.PaymentResult;
+import java.util.UUID;
+
+/**
+ * Payment for properties that collect at check-in: every charge and refund is accepted
+ * and given a reference for the front desk to settle. Replace with a gateway-backed
+ * {@link PaymentService} to take payment online.
+ */
+public class PayAtPropertyPaymentService implements PaymentService {
+
+    @Override
+    public PaymentResult charge(String userId, double amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must not be negative");
+        }
+        return new PaymentResult(true, "desk-" + UUID.randomUUID());
+    }
+
+    @Override
+    public PaymentResult refund(String userId, double amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Amount must not be negative");
+        }
+        return new PaymentResult(true, "desk-refund-" + UUID.randomUUID());
+    }
+}
@@ -4,4 +4,5 @@ import com.roomify.core.dto.PaymentResult;
 
 public interface PaymentService {
     PaymentResult charge(String userId, double amount);
+    PaymentResult refund(String userId, double amount);
 }
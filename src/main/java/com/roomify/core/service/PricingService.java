@@ -35,8 +35,33 @@ public class PricingService {
             return 0.0;
         }
 
+        return stayPrice(getBaseRate(roomId), roomId, from, to);
+    }
+
+    /**
+     * {@link #calculatePrice} for many rooms at once, using each room's own base price
+     * instead of looking it up; rooms without an id are skipped. Empty for invalid dates.
+     */
+    public Map<String, Double> calculatePrices(Collection<Room> rooms, LocalDate from, LocalDate to) {
+        Map<String, Double> prices = new HashMap<>();
+        if (from == null || to == null || !from.isBefore(to)) {
+            return prices;
+        }
+        for (Room room : rooms) {
+            if (room.getId() != null) {
+                prices.put(room.getId(), stayPrice(room.getBasePrice(), room.getId(), from, to));
+            }
+        }
+        return prices;
+    }
+
+    public double calculateNightPrice(String roomId, LocalDate date) {
+        return nightPrice(getBaseRate(roomId), roomId, date);
+    }
+
+    private double stayPrice(double baseRate, String roomId, LocalDate from, LocalDate to) {
         long nights = ChronoUnit.DAYS.between(from, to);
-        double totalPrice = calculateNightlyRates(roomId, from, to);
+        double totalPrice = calculateNightlyRates(baseRate, roomId, from, to);
 
         totalPrice = applyLongStayDiscount(totalPrice, nights);
         totalPrice = applyEarlyBookingDiscount(totalPrice, from);
@@ -44,8 +69,8 @@ public class PricingService {
         return Math.round(totalPrice * 100.0) / 100.0;
     }
 
-    public double calculateNightPrice(String roomId, LocalDate date) {
-        double price = getBaseRate(roomId);
+    private double nightPrice(double baseRate, String roomId, LocalDate date) {
+        double price = baseRate;
 
         if (isWeekend(date)) {
             price *= WEEKEND_PREMIUM;
@@ -87,12 +112,13 @@ public class PricingService {
                 from.isBefore(to) && ChronoUnit.DAYS.between(from, to) > 0;
     }
 
-    private double calculateNightlyRates(String roomId, LocalDate from, LocalDate to) {
+    // The base rate is looked up once per stay, not once per night
+    private double calculateNightlyRates(double baseRate, String roomId, LocalDate from, LocalDate to) {
         double totalPrice = 0.0;
         LocalDate currentDate = from;
 
         while (currentDate.isBefore(to)) {
-            totalPrice += calculateNightPrice(roomId, currentDate);
+            totalPrice += nightPrice(baseRate, roomId, currentDate);
             currentDate = currentDate.plusDays(1);
         }
 
@@ -0,0 +1,52 @@
+package com.roomify.core.service;
+
+/**
+ * Fenwick tree supporting "add v to every index in [from, to)" and "sum of [from, to)"
+ * in O(log n) each, using the usual pair of trees over the difference array.
+ */
+final class RangeFenwickTree {
+
+    private final double[] linear;
+    private final double[] scaled;
+
+    RangeFenwickTree(int size) {
+        this.linear = new double[size + 1];
+        this.scaled = new double[size + 1];
+    }
+
+    int size() {
+        return linear.length - 1;
+    }
+
+    void add(int from, int to, double value) {
+        if (from >= to) {
+            return;
+        }
+        addPoint(from, value, value * from);
+        if (to < size()) {
+            addPoint(to, -value, -value * to);
+        }
+    }
+
+    double sum(int from, int to) {
+        return from >= to ? 0 : prefix(to) - prefix(from);
+    }
+
+    // sum of [0, end)
+    private double prefix(int end) {
+        double linearSum = 0;
+        double scaledSum = 0;
+        for (int i = end; i > 0; i -= i & -i) {
+            linearSum += linear[i];
+            scaledSum += scaled[i];
+        }
+        return linearSum * end - scaledSum;
+    }
+
+    private void addPoint(int index, double linearValue, double scaledValue) {
+        for (int i = index + 1; i < linear.length; i += i & -i) {
+            linear[i] += linearValue;
+            scaled[i] += scaledValue;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Versioned cache of the rendered text reports.
+ *
+ * <p>Every month carries a version stamped from one counter each time a booking touching
+ * that month is saved or cancelled. A report's ETag is built from its kind, month, format,
+ * the month's version and today's date (the reports print their generation date), so a
+ * caller can tell whether a client's copy is current without rendering anything. Entries
+ * are stored with the version read <em>before</em> rendering; a change that races with
+ * rendering therefore leaves the entry stale rather than mislabelled.
+ *
+ * <p>A save event carries the version it replaced, so a booking moved between months dirties
+ * the months it left as well as its new ones; an event without dates dirties every month.
+ * Callers that change data in other ways (rooms, bulk loads) call {@link #invalidateAll()};
+ * room counts feed the occupancy figures of every month and both report kinds. Dirtied
+ * months are also dropped from the {@link ReportService} closed-month rollups.
+ */
+public class ReportCache implements BookingEventListener {
+
+    public enum Kind { MONTHLY, OCCUPANCY }
+
+    public record CachedReport(String etag, String body) {}
+
+    private final ReportService reportService;
+    private final Clock clock;
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<YearMonth, Long> monthVersions = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private volatile long epoch;
+
+    public ReportCache(ReportService reportService, Clock clock) {
+        this.reportService = reportService;
+        this.clock = clock;
+    }
+
+    public CachedReport monthlyReport(int month, int year) {
+        return get(Kind.MONTHLY, month, year);
+    }
+
+    public CachedReport occupancyReport(int month, int year) {
+        return get(Kind.OCCUPANCY, month, year);
+    }
+
+    public CachedReport get(Kind kind, int month, int year) {
+        YearMonth reportMonth = validMonth(month, year);
+        Key key = new Key(kind, reportMonth);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isCurrent(version(reportMonth), LocalDate.now(clock))) {
+            return entry.report;
+        }
+        return render(key).report;
+    }
+
+    /**
+     * Current ETag of a report in the given format; computing it never renders the report.
+     */
+    public String etag(Kind kind, int month, int year, String format) {
+        YearMonth reportMonth = validMonth(month, year);
+        return etag(kind, reportMonth, format, version(reportMonth), LocalDate.now(clock));
+    }
+
+    public boolean isCurrent(Kind kind, YearMonth month) {
+        Entry entry = entries.get(new Key(kind, month));
+        return entry != null && entry.isCurrent(version(month), LocalDate.now(clock));
+    }
+
+    /**
+     * Renders the report if the cached copy is missing or stale; returns whether it did.
+     */
+    public boolean refresh(Kind kind, YearMonth month) {
+        if (isCurrent(kind, month)) {
+            return false;
+        }
+        render(new Key(kind, month));
+        return true;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public void invalidateAll() {
+        epoch = changes.incrementAndGet();
+        if (reportService != null) {
+            reportService.invalidateClosedMonths();
+        }
+    }
+
+    @Override
+    public void onBookingSaved(Booking booking) {
+        onBookingSaved(null, booking);
+    }
+
+    @Override
+    public void onBookingSaved(Booking previous, Booking booking) {
+        touch(previous == null ? null : MonthSpan.of(previous), MonthSpan.of(booking));
+    }
+
+    @Override
+    public void onBookingCancelled(Booking booking) {
+        touch(null, MonthSpan.of(booking));
+    }
+
+    private Entry render(Key key) {
+        LocalDate today = LocalDate.now(clock);
+        long version = version(key.month);
+        int month = key.month.getMonthValue();
+        int year = key.month.getYear();
+
+        Supplier<String> report = key.kind == Kind.MONTHLY
+                ? () -> reportService.monthlyReport(month, year)
+                : () -> reportService.occupancyReport(month, year);
+        Entry entry = new Entry(version, today,
+                new CachedReport(etag(key.kind, key.month, "text", version, today), report.get()));
+
+        // keep whichever copy is newer when two renders race
+        return entries.merge(key, entry, (old, fresh) -> fresh.version >= old.version ? fresh : old);
+    }
+
+    private void touch(MonthSpan previous, MonthSpan current) {
+        if (current == null && previous == null) {
+            invalidateAll();
+            return;
+        }
+
+        long stamp = changes.incrementAndGet();
+        dirty(previous, stamp);
+        dirty(current, stamp);
+    }
+
+    private void dirty(MonthSpan span, long stamp) {
+        if (span == null) {
+            return;
+        }
+        for (YearMonth month = span.first(); !month.isAfter(span.last()); month = month.plusMonths(1)) {
+            monthVersions.merge(month, stamp, Math::max);
+            if (reportService != null) {
+                reportService.invalidateMonth(month);
+            }
+        }
+    }
+
+    private long version(YearMonth month) {
+        return Math.max(epoch, monthVersions.getOrDefault(month, 0L));
+    }
+
+    private static String etag(Kind kind, YearMonth month, String format, long version, LocalDate today) {
+        return "\"" + kind.name().toLowerCase() + "-" + month + "-" + format + "-" + version + "-" + today + "\"";
+    }
+
+    private static YearMonth validMonth(int month, int year) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month. Must be between 1 and 12.");
+        }
+        if (year < 2000 || year > 3000) {
+            throw new IllegalArgumentException("Invalid year. Must be between 2000 and 3000.");
+        }
+        return YearMonth.of(year, month);
+    }
+
+    private record Key(Kind kind, YearMonth month) {}
+
+    // months with at least one night of the stay
+    private record MonthSpan(YearMonth first, YearMonth last) {
+
+        static MonthSpan of(Booking booking) {
+            if (booking.getFrom() == null || booking.getTo() == null || !booking.getTo().isAfter(booking.getFrom())) {
+                return null;
+            }
+            return new MonthSpan(YearMonth.from(booking.getFrom()), YearMonth.from(booking.getTo().minusDays(1)));
+        }
+    }
+
+    private record Entry(long version, LocalDate renderedOn, CachedReport report) {
+
+        boolean isCurrent(long currentVersion, LocalDate today) {
+            return version == currentVersion && renderedOn.equals(today);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.roomify.core.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the standard reports (monthly and occupancy, for the current and previous month)
+ * rendered in a {@link ReportCache}. A daily run at an off-peak time renders all of them
+ * for the new day, and a short periodic check re-renders only those a booking change has
+ * made stale, so managers opening a report hit the cache instead of the repository.
+ */
+public class ReportPrecomputeScheduler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReportPrecomputeScheduler.class);
+
+    private static final LocalTime DEFAULT_OFF_PEAK = LocalTime.of(2, 0);
+    private static final Duration DEFAULT_REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private final ReportCache reportCache;
+    private final Clock clock;
+    private final ScheduledExecutorService executor;
+    private final boolean ownsExecutor;
+    private final LocalTime offPeakAt;
+    private final Duration refreshInterval;
+
+    public ReportPrecomputeScheduler(ReportCache reportCache, Clock clock) {
+        this(reportCache, clock, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-precompute");
+            thread.setDaemon(true);
+            return thread;
+        }), true, DEFAULT_OFF_PEAK, DEFAULT_REFRESH_INTERVAL);
+    }
+
+    public ReportPrecomputeScheduler(ReportCache reportCache, Clock clock, ScheduledExecutorService executor,
+                                     LocalTime offPeakAt, Duration refreshInterval) {
+        this(reportCache, clock, executor, false, offPeakAt, refreshInterval);
+    }
+
+    private ReportPrecomputeScheduler(ReportCache reportCache, Clock clock, ScheduledExecutorService executor,
+                                      boolean ownsExecutor, LocalTime offPeakAt, Duration refreshInterval) {
+        if (refreshInterval.isNegative() || refreshInterval.isZero()) {
+            throw new IllegalArgumentException("Refresh interval must be positive");
+        }
+        this.reportCache = reportCache;
+        this.clock = clock;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.offPeakAt = offPeakAt;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public void start() {
+        executor.scheduleAtFixedRate(this::runSafely, untilNextOffPeak().toMillis(),
+                TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+        executor.scheduleWithFixedDelay(this::runSafely, refreshInterval.toMillis(),
+                refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Renders every standard report that is missing or stale; returns how many it rendered.
+     */
+    public int precompute() {
+        int rendered = 0;
+        for (YearMonth month : standardMonths()) {
+            for (ReportCache.Kind kind : ReportCache.Kind.values()) {
+                if (reportCache.refresh(kind, month)) {
+                    rendered++;
+                }
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Standard reports currently waiting for the next run.
+     */
+    public int pendingReports() {
+        int pending = 0;
+        for (YearMonth month : standardMonths()) {
+            for (ReportCache.Kind kind : ReportCache.Kind.values()) {
+                if (!reportCache.isCurrent(kind, month)) {
+                    pending++;
+                }
+            }
+        }
+        return pending;
+    }
+
+    private YearMonth[] standardMonths() {
+        YearMonth current = YearMonth.now(clock);
+        return new YearMonth[] {current.minusMonths(1), current};
+    }
+
+    Duration untilNextOffPeak() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = now.toLocalDate().atTime(offPeakAt);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        return Duration.between(now, next);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.shutdownNow();
+        }
+    }
+
+    // An exception escaping a periodic task would cancel all its later runs
+    private void runSafely() {
+        try {
+            int rendered = precompute();
+            if (rendered > 0) {
+                log.debug("Precomputed {} reports", rendered);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Report precomputation failed, retrying on the next run", e);
+        }
+    }
+}
@@ -1,158 +1,500 @@
 package com.roomify.core.service;
 
 import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.CustomerEstimate;
+import com.roomify.core.dto.MonthlyMetrics;
+import com.roomify.core.dto.PeriodMetrics;
+import com.roomify.core.dto.RangeMetrics;
 import com.roomify.core.dto.Room;
+import com.roomify.core.dto.RoomPerformance;
+import com.roomify.core.dto.YearlyMetrics;
+import com.roomify.core.report.ReportColumn;
+import com.roomify.core.report.ReportColumn.Kind;
+import com.roomify.core.report.ReportWriter;
+import com.roomify.core.report.TextReportWriter;
 import com.roomify.core.repository.BookingRepository;
 import com.roomify.core.repository.RoomRepository;
+import com.roomify.core.sketch.CustomerSketch;
+import com.roomify.core.sketch.SpaceSavingTopK;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ReportService {
 
+    private static final int TOP_CUSTOMERS = 5;
+    // Twenty years of closed months per cache; enough for the multi-year reports
+    private static final int MAX_CACHED_MONTHS = 240;
+    private static final String[] MOCK_ROOM_IDS = {"room-1", "room-2", "suite-1", "premium-suite", "economy-room"};
+
     private final BookingRepository bookingRepository;
     private final RoomRepository roomRepository;
+    private final Clock clock;
+    private final DailyAggregateStore dailyAggregates;
+    private final RoomInventoryService roomInventory;
+
+    // Closed months rarely change, so their rollups are kept until a booking or room write
+    // invalidates them (see ReportCache); a result that raced an invalidation is not kept
+    private final Map<YearMonth, MonthlyMetrics> closedMonthRollups = new ConcurrentHashMap<>();
+    private final Map<YearMonth, CustomerSketch> closedMonthCustomerSketches = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
 
     public ReportService(BookingRepository bookingRepository, RoomRepository roomRepository) {
+        this(bookingRepository, roomRepository, Clock.systemDefaultZone());
+    }
+
+    public ReportService(BookingRepository bookingRepository, RoomRepository roomRepository, Clock clock) {
+        this(bookingRepository, roomRepository, clock, null);
+    }
+
+    public ReportService(BookingRepository bookingRepository, RoomRepository roomRepository, Clock clock,
+                         DailyAggregateStore dailyAggregates) {
+        this(bookingRepository, roomRepository, clock, dailyAggregates,
+                roomRepository == null ? null : new RoomInventoryService(roomRepository));
+    }
+
+    public ReportService(BookingRepository bookingRepository, RoomRepository roomRepository, Clock clock,
+                         DailyAggregateStore dailyAggregates, RoomInventoryService roomInventory) {
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
+        this.clock = clock;
+        this.dailyAggregates = dailyAggregates;
+        this.roomInventory = roomInventory;
     }
 
     public String monthlyReport(int month, int year) {
+        try {
+            return renderText(out -> exportMonthlyReport(month, year, out));
+        } catch (IllegalArgumentException e) {
+            return "ERROR: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Writes the monthly report section by section; nothing but the month's aggregates is
+     * held in memory.
+     */
+    public void exportMonthlyReport(int month, int year, ReportWriter out) throws IOException {
         if (month < 1 || month > 12) {
-            return "ERROR: Invalid month. Must be between 1 and 12.";
+            throw new IllegalArgumentException("Invalid month. Must be between 1 and 12.");
         }
 
         if (year < 2000 || year > 3000) {
-            return "ERROR: Invalid year. Must be between 2000 and 3000.";
+            throw new IllegalArgumentException("Invalid year. Must be between 2000 and 3000.");
         }
 
         YearMonth reportMonth = YearMonth.of(year, month);
         LocalDate startDate = reportMonth.atDay(1);
-        LocalDate endDate = reportMonth.atEndOfMonth();
+        LocalDate endDate = reportMonth.plusMonths(1).atDay(1);
 
-        StringBuilder report = new StringBuilder();
-
-        // Header
-        report.append("=".repeat(60)).append("\n");
-        report.append(String.format("         ROOMIFY MONTHLY REPORT - %s %d",
-                getMonthName(month), year)).append("\n");
-        report.append("=".repeat(60)).append("\n\n");
+        // Aggregate every section in a single pass over the month's bookings
+        MonthlyReportAccumulator totals = new MonthlyReportAccumulator(startDate, endDate);
+        try (Stream<Booking> bookings = streamBookingsInPeriod(startDate, endDate)) {
+            bookings.forEach(totals::add);
+        }
 
-        // Get all bookings for the month
-        List<Booking> monthlyBookings = getBookingsInDateRange(startDate, endDate);
+        out.beginReport("ROOMIFY MONTHLY REPORT - " + getMonthName(month) + " " + year, LocalDate.now(clock));
 
         // Revenue Summary
-        appendRevenueSummary(report, monthlyBookings);
+        writeRevenueSummary(out, totals);
 
         // Booking Statistics
-        appendBookingStatistics(report, monthlyBookings, reportMonth);
+        writeBookingStatistics(out, totals, startDate);
 
         // Room Performance
-        appendRoomPerformance(report, monthlyBookings, startDate, endDate);
+        writeRoomPerformance(out, totals);
 
         // Top Customers
-        appendTopCustomers(report, monthlyBookings);
+        writeTopCustomers(out, totals);
 
         // Daily Breakdown
-        appendDailyBreakdown(report, monthlyBookings, reportMonth);
+        writeDailyBreakdown(out, totals, startDate);
 
-        report.append("\n").append("=".repeat(60)).append("\n");
-        report.append("Report generated on: ").append(LocalDate.now()).append("\n");
-        report.append("=".repeat(60));
+        out.endReport();
+    }
 
-        return report.toString();
+    public MonthlyMetrics getMonthlyMetrics(int month, int year) {
+        return monthlyRollup(YearMonth.of(year, month));
     }
 
-    public Map<String, Object> getMonthlyMetrics(int month, int year) {
-        YearMonth reportMonth = YearMonth.of(year, month);
-        LocalDate startDate = reportMonth.atDay(1);
-        LocalDate endDate = reportMonth.atEndOfMonth();
+    /**
+     * Rollups for every month from {@code from} to {@code to}, both inclusive.
+     */
+    public List<MonthlyMetrics> monthlyMetrics(YearMonth from, YearMonth to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid month range");
+        }
 
-        List<Booking> monthlyBookings = getBookingsInDateRange(startDate, endDate);
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return monthlyRollups(months);
+    }
 
-        Map<String, Object> metrics = new HashMap<>();
+    /**
+     * Rollup for one month. Months that ended before the current one are cached until
+     * {@link #invalidateMonth} or {@link #invalidateClosedMonths} drops them, at most
+     * {@value #MAX_CACHED_MONTHS} at a time; the current and future months are always
+     * recomputed.
+     */
+    public MonthlyMetrics monthlyRollup(YearMonth month) {
+        if (!month.isBefore(YearMonth.now(clock))) {
+            return computeMonthlyMetrics(month);
+        }
 
-        // Revenue metrics
-        double totalRevenue = monthlyBookings.stream().mapToDouble(Booking::getPrice).sum();
-        double averageBookingValue = monthlyBookings.isEmpty() ? 0 : totalRevenue / monthlyBookings.size();
+        MonthlyMetrics cached = closedMonthRollups.get(month);
+        if (cached != null) {
+            return cached;
+        }
 
-        metrics.put("totalRevenue", totalRevenue);
-        metrics.put("averageBookingValue", averageBookingValue);
-        metrics.put("totalBookings", monthlyBookings.size());
+        long generation = invalidations.get();
+        MonthlyMetrics computed = computeMonthlyMetrics(month);
+        return cacheClosedMonth(closedMonthRollups, month, computed, generation);
+    }
 
-        // Occupancy metrics
-        int totalRoomNights = calculateTotalRoomNights(startDate, endDate);
-        int bookedRoomNights = calculateBookedRoomNights(monthlyBookings);
-        double occupancyRate = totalRoomNights > 0 ? (double) bookedRoomNights / totalRoomNights : 0;
+    /**
+     * Drops the cached rollup and customer sketch of {@code month}.
+     */
+    public void invalidateMonth(YearMonth month) {
+        invalidations.incrementAndGet();
+        closedMonthRollups.remove(month);
+        closedMonthCustomerSketches.remove(month);
+    }
 
-        metrics.put("occupancyRate", occupancyRate);
-        metrics.put("totalRoomNights", totalRoomNights);
-        metrics.put("bookedRoomNights", bookedRoomNights);
+    /**
+     * Drops every cached month, e.g. after a room change that alters the room-nights
+     * available in each of them.
+     */
+    public void invalidateClosedMonths() {
+        invalidations.incrementAndGet();
+        closedMonthRollups.clear();
+        closedMonthCustomerSketches.clear();
+    }
 
-        // Customer metrics
-        Set<String> uniqueCustomers = monthlyBookings.stream()
-                .map(Booking::getUserId)
-                .collect(Collectors.toSet());
+    /**
+     * Rollups for the given months, in order. Cached months are returned directly and the
+     * rest are computed one after another: each one is a blocking range read, which must not
+     * tie up the fork/join common pool that the columnar store's scans run on.
+     */
+    public List<MonthlyMetrics> monthlyRollups(List<YearMonth> months) {
+        List<MonthlyMetrics> rollups = new ArrayList<>(months.size());
+        for (YearMonth month : months) {
+            rollups.add(monthlyRollup(month));
+        }
+        return rollups;
+    }
 
-        metrics.put("uniqueCustomers", uniqueCustomers.size());
+    /**
+     * Approximate unique-customer count and top customers by revenue for the months
+     * {@code from} to {@code to}, inclusive. Memory is bounded by the sketch size rather
+     * than the number of customers, so this is the one to use for multi-year ranges; the
+     * exact figures stay in {@link #getMonthlyMetrics} and the monthly report.
+     */
+    public CustomerEstimate approximateCustomers(YearMonth from, YearMonth to, int topK) {
+        if (topK < 1 || topK > CustomerSketch.DEFAULT_TOP_CAPACITY) {
+            throw new IllegalArgumentException("Top customers must be between 1 and " + CustomerSketch.DEFAULT_TOP_CAPACITY);
+        }
 
-        return metrics;
+        CustomerSketch sketch = customerSketch(from, to);
+        List<CustomerEstimate.TopCustomer> top = new ArrayList<>();
+        for (SpaceSavingTopK.Estimate estimate : sketch.topCustomers(topK)) {
+            top.add(new CustomerEstimate.TopCustomer(estimate.item(), estimate.weight(), estimate.error()));
+        }
+        return new CustomerEstimate(from, to, sketch.uniqueCustomers(), sketch.uniqueCustomersRelativeError(), top,
+                sketch.unlistedRevenueBound());
+    }
+
+    /**
+     * Customer sketch for the months {@code from} to {@code to}, inclusive, merged from one
+     * sketch per month. The result belongs to the caller, e.g. to merge with sketches from
+     * other nodes.
+     */
+    public CustomerSketch customerSketch(YearMonth from, YearMonth to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid month range");
+        }
+
+        // sequential for the same reason as monthlyRollups
+        CustomerSketch sketch = monthlyCustomerSketch(from);
+        for (YearMonth month = from.plusMonths(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            sketch.merge(monthlyCustomerSketch(month));
+        }
+        return sketch;
+    }
+
+    // Always a fresh copy: merging mutates the left-hand sketch
+    private CustomerSketch monthlyCustomerSketch(YearMonth month) {
+        if (!month.isBefore(YearMonth.now(clock))) {
+            return computeCustomerSketch(month);
+        }
+
+        CustomerSketch cached = closedMonthCustomerSketches.get(month);
+        if (cached == null) {
+            long generation = invalidations.get();
+            cached = cacheClosedMonth(closedMonthCustomerSketches, month, computeCustomerSketch(month), generation);
+        }
+        return cached.copy();
+    }
+
+    // Keeps the value unless an invalidation ran while it was computed; evicts arbitrary
+    // months beyond the bound, which keeps reads lock-free
+    private <T> T cacheClosedMonth(Map<YearMonth, T> cache, YearMonth month, T computed, long generation) {
+        if (invalidations.get() != generation) {
+            return computed;
+        }
+        T raced = cache.putIfAbsent(month, computed);
+        Iterator<YearMonth> months = cache.keySet().iterator();
+        while (cache.size() > MAX_CACHED_MONTHS && months.hasNext()) {
+            if (!months.next().equals(month)) {
+                months.remove();
+            }
+        }
+        return raced != null ? raced : computed;
+    }
+
+    private CustomerSketch computeCustomerSketch(YearMonth month) {
+        CustomerSketch sketch = new CustomerSketch();
+        try (Stream<Booking> bookings = streamBookingsInPeriod(month.atDay(1), month.plusMonths(1).atDay(1))) {
+            bookings.forEach(booking -> sketch.add(booking.getUserId(), booking.getPrice()));
+        }
+        return sketch;
+    }
+
+    public String customerReport(YearMonth from, YearMonth to) {
+        try {
+            return renderText(out -> exportCustomerReport(from, to, out));
+        } catch (IllegalArgumentException e) {
+            return "ERROR: " + e.getMessage();
+        }
+    }
+
+    public void exportCustomerReport(YearMonth from, YearMonth to, ReportWriter out) throws IOException {
+        CustomerEstimate estimate = approximateCustomers(from, to, TOP_CUSTOMERS);
+
+        out.beginReport("ROOMIFY CUSTOMER REPORT - " + from + " to " + to + " (APPROXIMATE)", LocalDate.now(clock));
+
+        out.beginSection("Unique Customers");
+        out.field("Estimated Unique Customers", estimate.uniqueCustomers());
+        out.field("Standard Error", estimate.uniqueCustomersRelativeError() * 100, Kind.PERCENT);
+        out.endSection();
+
+        out.beginSection("Top Customers");
+        out.beginTable(ReportColumn.text("Customer ID", 15), ReportColumn.money("Revenue", 12),
+                ReportColumn.money("Max Overcount", 14));
+        for (CustomerEstimate.TopCustomer customer : estimate.topCustomers()) {
+            out.cell(customer.userId());
+            out.cell(customer.revenue());
+            out.cell(customer.maxOverestimate());
+            out.endRow();
+        }
+        out.endTable();
+        out.field("Unlisted Customers Spent At Most", estimate.unlistedRevenueBound(), Kind.MONEY);
+        out.endSection();
+
+        out.endReport();
+    }
+
+    public int cachedMonths() {
+        return closedMonthRollups.size() + closedMonthCustomerSketches.size();
+    }
+
+    private MonthlyMetrics computeMonthlyMetrics(YearMonth reportMonth) {
+        LocalDate startDate = reportMonth.atDay(1);
+        LocalDate endDate = reportMonth.plusMonths(1).atDay(1);
+
+        int totalBookings = 0;
+        double totalRevenue = 0;
+        int bookedRoomNights = 0;
+        Set<String> uniqueCustomers = new HashSet<>();
+
+        try (Stream<Booking> bookings = streamBookingsInPeriod(startDate, endDate)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                totalBookings++;
+                totalRevenue += booking.getPrice();
+                bookedRoomNights += nights(booking);
+                uniqueCustomers.add(booking.getUserId());
+            }
+        }
+
+        return MonthlyMetrics.of(reportMonth.getYear(), reportMonth.getMonthValue(), totalBookings, totalRevenue,
+                calculateTotalRoomNights(startDate, endDate), bookedRoomNights, uniqueCustomers.size());
     }
 
     public String roomPerformanceReport(String roomId, int month, int year) {
+        return renderText(out -> exportRoomPerformanceReport(roomId, month, year, out));
+    }
+
+    public void exportRoomPerformanceReport(String roomId, int month, int year, ReportWriter out) throws IOException {
         YearMonth reportMonth = YearMonth.of(year, month);
         LocalDate startDate = reportMonth.atDay(1);
-        LocalDate endDate = reportMonth.atEndOfMonth();
+        LocalDate endDate = reportMonth.plusMonths(1).atDay(1);
+
+        int bookingCount = 0;
+        double totalRevenue = 0;
+        int totalNights = 0;
+
+        try (Stream<Booking> bookings = streamBookingsInPeriod(startDate, endDate)) {
+            Iterator<Booking> iterator = bookings.filter(booking -> roomId.equals(booking.getRoomId())).iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                bookingCount++;
+                totalRevenue += booking.getPrice();
+                totalNights += nights(booking);
+            }
+        }
 
-        List<Booking> roomBookings = getBookingsInDateRange(startDate, endDate).stream()
-                .filter(booking -> roomId.equals(booking.getRoomId()))
-                .collect(Collectors.toList());
+        out.beginReport("ROOMIFY ROOM PERFORMANCE REPORT - " + roomId + " - " + getMonthName(month) + " " + year,
+                LocalDate.now(clock));
+        out.beginSection("Room Performance");
+        if (bookingCount == 0) {
+            out.message("No bookings found for this room in the specified period.");
+        } else {
+            out.field("Total Revenue", totalRevenue, Kind.MONEY);
+            out.field("Total Bookings", bookingCount);
+            out.field("Total Nights Booked", totalNights);
+            out.field("Occupancy Rate", (double) totalNights / reportMonth.lengthOfMonth() * 100, Kind.PERCENT);
+            out.field("Average Booking Value", totalRevenue / bookingCount, Kind.MONEY);
+        }
+        out.endSection();
+        out.endReport();
+    }
 
-        StringBuilder report = new StringBuilder();
+    /**
+     * Performance of every room in one pass over the month's bookings, sorted best first and
+     * cut to one page. Rooms without bookings are listed too, with zero figures, so idle
+     * rooms show up at the bottom of the ranking instead of disappearing.
+     */
+    public RoomPerformance.Page allRoomsPerformance(int month, int year, RoomPerformance.Sort sort, int page, int pageSize) {
+        if (month < 1 || month > 12) {
+            throw new IllegalArgumentException("Invalid month. Must be between 1 and 12.");
+        }
+        if (page < 0 || pageSize < 1) {
+            throw new IllegalArgumentException("Invalid page");
+        }
 
-        report.append("Room Performance Report: ").append(roomId).append("\n");
-        report.append("Period: ").append(getMonthName(month)).append(" ").append(year).append("\n");
-        report.append("-".repeat(50)).append("\n");
+        YearMonth reportMonth = YearMonth.of(year, month);
+        LocalDate startDate = reportMonth.atDay(1);
+        LocalDate endDate = reportMonth.plusMonths(1).atDay(1);
+
+        Map<String, MonthlyReportAccumulator.RoomTotals> totals = new HashMap<>();
+        try (Stream<Booking> bookings = streamBookingsInPeriod(startDate, endDate)) {
+            bookings.forEach(booking -> {
+                MonthlyReportAccumulator.RoomTotals room =
+                        totals.computeIfAbsent(booking.getRoomId(), MonthlyReportAccumulator.RoomTotals::new);
+                room.bookings++;
+                room.revenue += booking.getPrice();
+                room.nights += nights(booking);
+            });
+        }
+        forEachRoomId(roomId -> totals.computeIfAbsent(roomId, MonthlyReportAccumulator.RoomTotals::new));
 
-        if (roomBookings.isEmpty()) {
-            report.append("No bookings found for this room in the specified period.\n");
-            return report.toString();
+        int daysInMonth = reportMonth.lengthOfMonth();
+        List<RoomPerformance> rooms = new ArrayList<>(totals.size());
+        for (MonthlyReportAccumulator.RoomTotals room : totals.values()) {
+            rooms.add(new RoomPerformance(room.roomId, room.bookings, room.revenue, room.nights,
+                    (double) room.nights / daysInMonth));
         }
+        rooms.sort(sort.comparator());
 
-        double totalRevenue = roomBookings.stream().mapToDouble(Booking::getPrice).sum();
-        int totalNights = roomBookings.stream()
-                .mapToInt(booking -> (int) java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo()))
-                .sum();
+        int from = (int) Math.min(rooms.size(), (long) page * pageSize);
+        int to = (int) Math.min(rooms.size(), (long) from + pageSize);
+        return new RoomPerformance.Page(page, pageSize, rooms.size(), sort, rooms.subList(from, to));
+    }
 
-        int daysInMonth = reportMonth.lengthOfMonth();
-        double occupancyRate = (double) totalNights / daysInMonth;
+    public String allRoomsPerformanceReport(int month, int year, RoomPerformance.Sort sort, int page, int pageSize) {
+        try {
+            return renderText(out -> exportAllRoomsPerformance(month, year, sort, page, pageSize, out));
+        } catch (IllegalArgumentException e) {
+            return "ERROR: " + e.getMessage();
+        }
+    }
 
-        report.append(String.format("Total Revenue: $%.2f\n", totalRevenue));
-        report.append(String.format("Total Bookings: %d\n", roomBookings.size()));
-        report.append(String.format("Total Nights Booked: %d\n", totalNights));
-        report.append(String.format("Occupancy Rate: %.1f%%\n", occupancyRate * 100));
-        report.append(String.format("Average Booking Value: $%.2f\n", totalRevenue / roomBookings.size()));
+    public void exportAllRoomsPerformance(int month, int year, RoomPerformance.Sort sort, int page, int pageSize,
+                                          ReportWriter out) throws IOException {
+        RoomPerformance.Page result = allRoomsPerformance(month, year, sort, page, pageSize);
+
+        out.beginReport("ROOMIFY ROOM PERFORMANCE - " + getMonthName(month) + " " + year, LocalDate.now(clock));
+        out.beginSection("Rooms by " + sort.name().charAt(0) + sort.name().substring(1).toLowerCase());
+        out.field("Total Rooms", result.totalRooms());
+        out.field("Page", result.page() + 1);
+        out.beginTable(ReportColumn.text("Room ID", 15), ReportColumn.integer("Bookings", 10),
+                ReportColumn.money("Revenue", 12), ReportColumn.integer("Nights", 8),
+                ReportColumn.percent("Occupancy", 10), ReportColumn.money("Avg Booking", 12));
+        for (RoomPerformance room : result.rooms()) {
+            out.cell(room.roomId());
+            out.cell(room.bookings());
+            out.cell(room.revenue());
+            out.cell(room.nights());
+            out.cell(room.occupancyRate() * 100);
+            out.cell(room.averageBookingValue());
+            out.endRow();
+        }
+        out.endTable();
+        out.endSection();
+        out.endReport();
+    }
 
-        return report.toString();
+    private void forEachRoomId(Consumer<String> action) {
+        if (roomRepository == null) {
+            Arrays.asList(MOCK_ROOM_IDS).forEach(action);
+            return;
+        }
+        try (Stream<Room> rooms = roomRepository.findAll()) {
+            rooms.map(Room::getId).forEach(action);
+        }
+    }
+
+    /**
+     * Bookings overlapping {@code [startDate, endDate)}, clipped to the period. A stay that
+     * crosses the period boundary keeps only its nights inside the period and the matching
+     * share of its price, so month totals add up to the year without double counting.
+     */
+    private Stream<Booking> streamBookingsInPeriod(LocalDate startDate, LocalDate endDate) {
+        return rawBookingsInPeriod(startDate, endDate).map(booking -> clipToPeriod(booking, startDate, endDate));
+    }
+
+    private Stream<Booking> rawBookingsInPeriod(LocalDate startDate, LocalDate endDate) {
+        return bookingRepository == null
+                ? generateMockBookings(startDate, endDate).stream()
+                : bookingRepository.streamInRange(startDate, endDate);
     }
 
-    private List<Booking> getBookingsInDateRange(LocalDate startDate, LocalDate endDate) {
-        if (bookingRepository == null) {
-            return generateMockBookings(startDate, endDate);
+    private Booking clipToPeriod(Booking booking, LocalDate startDate, LocalDate endDate) {
+        if (!booking.getFrom().isBefore(startDate) && !booking.getTo().isAfter(endDate)) {
+            return booking;
         }
 
-        // In a real implementation, this would query the repository
-        // For now, we'll generate mock data
-        return generateMockBookings(startDate, endDate);
+        LocalDate from = booking.getFrom().isBefore(startDate) ? startDate : booking.getFrom();
+        LocalDate to = booking.getTo().isAfter(endDate) ? endDate : booking.getTo();
+        long totalNights = nights(booking);
+        double price = totalNights > 0
+                ? booking.getPrice() * java.time.temporal.ChronoUnit.DAYS.between(from, to) / totalNights
+                : 0;
+
+        return new Booking(booking.getId(), booking.getRoomId(), booking.getUserId(), from, to, price);
+    }
+
+    private static int nights(Booking booking) {
+        return (int) java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo());
     }
 
     private List<Booking> generateMockBookings(LocalDate startDate, LocalDate endDate) {
         List<Booking> mockBookings = new ArrayList<>();
         Random random = new Random(startDate.hashCode()); // Deterministic for testing
 
-        String[] roomIds = {"room-1", "room-2", "suite-1", "premium-suite", "economy-room"};
         String[] userIds = {"user-1", "user-2", "user-3", "user-4", "user-5", "user-6"};
 
         // Generate 10-30 mock bookings for the month
@@ -170,7 +512,7 @@ public class ReportService {
             if (!bookingStart.equals(bookingEnd)) {
                 Booking booking = new Booking();
                 booking.setId("booking-" + i);
-                booking.setRoomId(roomIds[random.nextInt(roomIds.length)]);
+                booking.setRoomId(MOCK_ROOM_IDS[random.nextInt(MOCK_ROOM_IDS.length)]);
                 booking.setUserId(userIds[random.nextInt(userIds.length)]);
                 booking.setFrom(bookingStart);
                 booking.setTo(bookingEnd);
@@ -187,167 +529,97 @@ public class ReportService {
         return mockBookings;
     }
 
-    private void appendRevenueSummary(StringBuilder report, List<Booking> bookings) {
-        double totalRevenue = bookings.stream().mapToDouble(Booking::getPrice).sum();
-        double averageBooking = bookings.isEmpty() ? 0 : totalRevenue / bookings.size();
-
-        report.append("REVENUE SUMMARY\n");
-        report.append("-".repeat(20)).append("\n");
-        report.append(String.format("Total Revenue: $%.2f\n", totalRevenue));
-        report.append(String.format("Total Bookings: %d\n", bookings.size()));
-        report.append(String.format("Average Booking Value: $%.2f\n", averageBooking));
-        report.append("\n");
+    private void writeRevenueSummary(ReportWriter out, MonthlyReportAccumulator totals) throws IOException {
+        out.beginSection("Revenue Summary");
+        out.field("Total Revenue", totals.totalRevenue(), Kind.MONEY);
+        out.field("Total Bookings", totals.bookingCount());
+        out.field("Average Booking Value", totals.averageBookingValue(), Kind.MONEY);
+        out.endSection();
     }
 
-    private void appendBookingStatistics(StringBuilder report, List<Booking> bookings, YearMonth month) {
-        if (bookings.isEmpty()) {
-            report.append("BOOKING STATISTICS\n");
-            report.append("-".repeat(20)).append("\n");
-            report.append("No bookings found for this period.\n\n");
+    private void writeBookingStatistics(ReportWriter out, MonthlyReportAccumulator totals, LocalDate startDate)
+            throws IOException {
+        out.beginSection("Booking Statistics");
+        if (totals.bookingCount() == 0) {
+            out.message("No bookings found for this period.");
+            out.endSection();
             return;
         }
 
-        // Calculate average stay length
-        double averageStayLength = bookings.stream()
-                .mapToLong(booking -> java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo()))
-                .average()
-                .orElse(0);
-
-        // Find peak booking days
-        Map<LocalDate, Long> bookingsByDay = bookings.stream()
-                .flatMap(booking -> booking.getFrom().datesUntil(booking.getTo()))
-                .collect(Collectors.groupingBy(date -> date, Collectors.counting()));
+        out.field("Average Stay Length", totals.averageStayLength(), Kind.DECIMAL);
+        out.field("Shortest Stay", totals.shortestStay());
+        out.field("Longest Stay", totals.longestStay());
 
-        Optional<Map.Entry<LocalDate, Long>> peakDay = bookingsByDay.entrySet().stream()
-                .max(Map.Entry.comparingByValue());
-
-        report.append("BOOKING STATISTICS\n");
-        report.append("-".repeat(20)).append("\n");
-        report.append(String.format("Average Stay Length: %.1f nights\n", averageStayLength));
-        report.append(String.format("Shortest Stay: %d nights\n",
-                bookings.stream().mapToInt(b -> (int) java.time.temporal.ChronoUnit.DAYS.between(b.getFrom(), b.getTo())).min().orElse(0)));
-        report.append(String.format("Longest Stay: %d nights\n",
-                bookings.stream().mapToInt(b -> (int) java.time.temporal.ChronoUnit.DAYS.between(b.getFrom(), b.getTo())).max().orElse(0)));
-
-        if (peakDay.isPresent()) {
-            report.append(String.format("Peak Occupancy Day: %s (%d rooms occupied)\n",
-                    peakDay.get().getKey(), peakDay.get().getValue()));
+        int peakDay = totals.peakDay();
+        if (peakDay >= 0) {
+            out.field("Peak Occupancy Day", startDate.plusDays(peakDay).toString());
+            out.field("Peak Rooms Occupied", totals.roomsOccupied(peakDay));
         }
-        report.append("\n");
+        out.endSection();
     }
 
-    private void appendRoomPerformance(StringBuilder report, List<Booking> bookings, LocalDate startDate, LocalDate endDate) {
-        Map<String, List<Booking>> bookingsByRoom = bookings.stream()
-                .collect(Collectors.groupingBy(Booking::getRoomId));
-
-        report.append("ROOM PERFORMANCE\n");
-        report.append("-".repeat(20)).append("\n");
-        report.append(String.format("%-15s %10s %10s %12s\n", "Room ID", "Bookings", "Revenue", "Occupancy"));
-        report.append("-".repeat(50)).append("\n");
-
-        int daysInPeriod = (int) java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
-
-        for (Map.Entry<String, List<Booking>> entry : bookingsByRoom.entrySet()) {
-            String roomId = entry.getKey();
-            List<Booking> roomBookings = entry.getValue();
-
-            double roomRevenue = roomBookings.stream().mapToDouble(Booking::getPrice).sum();
-            int totalNights = roomBookings.stream()
-                    .mapToInt(booking -> (int) java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo()))
-                    .sum();
-            double occupancyRate = (double) totalNights / daysInPeriod * 100;
-
-            report.append(String.format("%-15s %10d $%9.2f %10.1f%%\n",
-                    roomId, roomBookings.size(), roomRevenue, occupancyRate));
+    private void writeRoomPerformance(ReportWriter out, MonthlyReportAccumulator totals) throws IOException {
+        out.beginSection("Room Performance");
+        out.beginTable(ReportColumn.text("Room ID", 15), ReportColumn.integer("Bookings", 10),
+                ReportColumn.money("Revenue", 12), ReportColumn.percent("Occupancy", 10));
+
+        int daysInPeriod = totals.days();
+
+        // best first, like the all-rooms report; the accumulator's map has no useful order
+        List<MonthlyReportAccumulator.RoomTotals> rooms = new ArrayList<>(totals.roomTotals());
+        rooms.sort(Comparator.comparingDouble((MonthlyReportAccumulator.RoomTotals room) -> room.revenue)
+                .reversed()
+                .thenComparing(room -> room.roomId));
+        for (MonthlyReportAccumulator.RoomTotals room : rooms) {
+            out.cell(room.roomId);
+            out.cell(room.bookings);
+            out.cell(room.revenue);
+            out.cell((double) room.nights / daysInPeriod * 100);
+            out.endRow();
         }
-        report.append("\n");
+        out.endTable();
+        out.endSection();
     }
 
-    private void appendTopCustomers(StringBuilder report, List<Booking> bookings) {
-        Map<String, Double> revenueByCustomer = bookings.stream()
-                .collect(Collectors.groupingBy(Booking::getUserId,
-                        Collectors.summingDouble(Booking::getPrice)));
-
-        List<Map.Entry<String, Double>> topCustomers = revenueByCustomer.entrySet().stream()
-                .sorted(Map.Entry.<String, Double>comparingByValue().reversed())
-                .limit(5)
-                .collect(Collectors.toList());
-
-        report.append("TOP CUSTOMERS\n");
-        report.append("-".repeat(20)).append("\n");
-        report.append(String.format("%-15s %10s %10s\n", "Customer ID", "Bookings", "Revenue"));
-        report.append("-".repeat(40)).append("\n");
+    private void writeTopCustomers(ReportWriter out, MonthlyReportAccumulator totals) throws IOException {
+        out.beginSection("Top Customers");
+        out.beginTable(ReportColumn.text("Customer ID", 15), ReportColumn.integer("Bookings", 10),
+                ReportColumn.money("Revenue", 12));
 
-        for (Map.Entry<String, Double> entry : topCustomers) {
-            String customerId = entry.getKey();
-            double revenue = entry.getValue();
-            long bookingCount = bookings.stream()
-                    .filter(booking -> customerId.equals(booking.getUserId()))
-                    .count();
-
-            report.append(String.format("%-15s %10d $%9.2f\n",
-                    customerId, bookingCount, revenue));
+        for (MonthlyReportAccumulator.CustomerTotals customer : totals.topCustomers(TOP_CUSTOMERS)) {
+            out.cell(customer.userId);
+            out.cell(customer.bookings);
+            out.cell(customer.revenue);
+            out.endRow();
         }
-        report.append("\n");
+        out.endTable();
+        out.endSection();
     }
 
-    private void appendDailyBreakdown(StringBuilder report, List<Booking> bookings, YearMonth month) {
-        Map<LocalDate, List<Booking>> bookingsByDate = new HashMap<>();
-
-        // Initialize all days in the month
-        for (int day = 1; day <= month.lengthOfMonth(); day++) {
-            LocalDate date = month.atDay(day);
-            bookingsByDate.put(date, new ArrayList<>());
-        }
-
-        // Populate with actual bookings
-        for (Booking booking : bookings) {
-            LocalDate current = booking.getFrom();
-            while (current.isBefore(booking.getTo())) {
-                if (bookingsByDate.containsKey(current)) {
-                    bookingsByDate.get(current).add(booking);
-                }
-                current = current.plusDays(1);
-            }
+    private void writeDailyBreakdown(ReportWriter out, MonthlyReportAccumulator totals, LocalDate startDate)
+            throws IOException {
+        out.beginSection("Daily Occupancy Breakdown");
+        out.beginTable(ReportColumn.text("Date", 10), ReportColumn.integer("Rooms", 5),
+                ReportColumn.money("Revenue", 10));
+
+        for (int day = 0; day < totals.days(); day++) {
+            out.cell(startDate.plusDays(day).toString());
+            out.cell(totals.roomsOccupied(day));
+            out.cell(totals.revenue(day));
+            out.endRow();
         }
-
-        report.append("DAILY OCCUPANCY BREAKDOWN\n");
-        report.append("-".repeat(30)).append("\n");
-        report.append("Date       Rooms  Revenue\n");
-        report.append("-".repeat(25)).append("\n");
-
-        for (int day = 1; day <= month.lengthOfMonth(); day++) {
-            LocalDate date = month.atDay(day);
-            List<Booking> dayBookings = bookingsByDate.get(date);
-
-            Set<String> occupiedRooms = dayBookings.stream()
-                    .map(Booking::getRoomId)
-                    .collect(Collectors.toSet());
-
-            double dayRevenue = dayBookings.stream()
-                    .mapToDouble(booking -> {
-                        long totalNights = java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo());
-                        return totalNights > 0 ? booking.getPrice() / totalNights : 0;
-                    })
-                    .sum();
-
-            report.append(String.format("%02d/%02d/%d    %2d   $%7.2f\n",
-                    day, month.getMonthValue(), month.getYear(),
-                    occupiedRooms.size(), dayRevenue));
-        }
-        report.append("\n");
+        out.endTable();
+        out.endSection();
     }
 
     private int calculateTotalRoomNights(LocalDate startDate, LocalDate endDate) {
         int daysInPeriod = (int) java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
-        int totalRooms = 5; // Assume we have 5 rooms total
-        return daysInPeriod * totalRooms;
+        return daysInPeriod * totalRooms();
     }
 
-    private int calculateBookedRoomNights(List<Booking> bookings) {
-        return bookings.stream()
-                .mapToInt(booking -> (int) java.time.temporal.ChronoUnit.DAYS.between(booking.getFrom(), booking.getTo()))
-                .sum();
+    private int totalRooms() {
+        // without a room repository the report runs on mock bookings for the mock rooms
+        return roomInventory == null ? MOCK_ROOM_IDS.length : roomInventory.totalRooms();
     }
 
     private String getMonthName(int month) {
@@ -360,62 +632,266 @@ public class ReportService {
 
     // Additional report methods
     public String yearlyReport(int year) {
-        StringBuilder report = new StringBuilder();
+        return renderText(out -> exportYearlyReport(year, out));
+    }
+
+    public void exportYearlyReport(int year, ReportWriter out) throws IOException {
+        List<YearMonth> months = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            months.add(YearMonth.of(year, month));
+        }
 
-        report.append("=".repeat(60)).append("\n");
-        report.append(String.format("              ROOMIFY YEARLY REPORT - %d", year)).append("\n");
-        report.append("=".repeat(60)).append("\n\n");
+        out.beginReport("ROOMIFY YEARLY REPORT - " + year, LocalDate.now(clock));
+        writeRollupTable(out, "Monthly Breakdown", "Month", monthlyRollups(months),
+                rollup -> getMonthName(rollup.month()));
+        out.endReport();
+    }
 
-        double yearlyRevenue = 0;
-        int yearlyBookings = 0;
+    public String multiYearReport(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            return "ERROR: Invalid range. First year must not be after the last one.";
+        }
 
-        report.append("MONTHLY BREAKDOWN\n");
-        report.append("-".repeat(20)).append("\n");
-        report.append(String.format("%-10s %10s %10s %12s\n", "Month", "Bookings", "Revenue", "Avg/Booking"));
-        report.append("-".repeat(45)).append("\n");
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.of(fromYear, 1); month.getYear() <= toYear; month = month.plusMonths(1)) {
+            months.add(month);
+        }
 
-        for (int month = 1; month <= 12; month++) {
-            Map<String, Object> metrics = getMonthlyMetrics(month, year);
-            double monthRevenue = (Double) metrics.get("totalRevenue");
-            int monthBookings = (Integer) metrics.get("totalBookings");
-            double avgBooking = (Double) metrics.get("averageBookingValue");
+        // Fold the monthly rollups into one row per year
+        Map<Integer, List<MonthlyMetrics>> byYear = monthlyRollups(months).stream()
+                .collect(Collectors.groupingBy(MonthlyMetrics::year, TreeMap::new, Collectors.toList()));
+        List<YearlyMetrics> yearly = new ArrayList<>();
+        for (Map.Entry<Integer, List<MonthlyMetrics>> entry : byYear.entrySet()) {
+            yearly.add(YearlyMetrics.of(entry.getKey(), entry.getValue()));
+        }
 
-            yearlyRevenue += monthRevenue;
-            yearlyBookings += monthBookings;
+        return renderText(out -> {
+            out.beginReport("ROOMIFY MULTI-YEAR REPORT - " + fromYear + "-" + toYear, LocalDate.now(clock));
+            writeRollupTable(out, "Yearly Breakdown", "Year", yearly, rollup -> String.valueOf(rollup.year()));
+            out.endReport();
+        });
+    }
 
-            report.append(String.format("%-10s %10d $%9.2f $%11.2f\n",
-                    getMonthName(month), monthBookings, monthRevenue, avgBooking));
+    public String trailingTwelveMonthsReport() {
+        YearMonth current = YearMonth.now(clock);
+        List<YearMonth> months = new ArrayList<>();
+        for (int offset = 11; offset >= 0; offset--) {
+            months.add(current.minusMonths(offset));
         }
 
-        report.append("-".repeat(45)).append("\n");
-        report.append(String.format("%-10s %10d $%9.2f $%11.2f\n",
-                "TOTAL", yearlyBookings, yearlyRevenue,
-                yearlyBookings > 0 ? yearlyRevenue / yearlyBookings : 0));
+        List<MonthlyMetrics> rollups = monthlyRollups(months);
+        return renderText(out -> {
+            out.beginReport("ROOMIFY TRAILING 12 MONTHS REPORT - " + months.get(0) + " to " + current,
+                    LocalDate.now(clock));
+            writeRollupTable(out, "Monthly Breakdown", "Month", rollups,
+                    rollup -> YearMonth.of(rollup.year(), rollup.month()).toString());
+            out.endReport();
+        });
+    }
+
+    /**
+     * Every booking overlapping {@code [from, to)}, unclipped, one row each. Rows are read
+     * from the repository cursor and written straight through, so the export's size is
+     * bounded by the sink rather than the heap.
+     */
+    public void exportBookings(LocalDate from, LocalDate to, ReportWriter out) throws IOException {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
 
-        return report.toString();
+        long count = 0;
+        double revenue = 0;
+
+        out.beginReport("ROOMIFY BOOKINGS - " + from + " to " + to, LocalDate.now(clock));
+        out.beginSection("Bookings");
+        out.beginTable(ReportColumn.text("Booking ID", 36), ReportColumn.text("Room ID", 15),
+                ReportColumn.text("Customer ID", 15), ReportColumn.text("Check-in", 10),
+                ReportColumn.text("Check-out", 10), ReportColumn.integer("Nights", 6),
+                ReportColumn.money("Price", 12));
+
+        try (Stream<Booking> bookings = rawBookingsInPeriod(from, to)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                out.cell(booking.getId());
+                out.cell(booking.getRoomId());
+                out.cell(booking.getUserId());
+                out.cell(booking.getFrom().toString());
+                out.cell(booking.getTo().toString());
+                out.cell(nights(booking));
+                out.cell(booking.getPrice());
+                out.endRow();
+
+                count++;
+                revenue += booking.getPrice();
+            }
+        }
+        out.endTable();
+        out.endSection();
+
+        out.beginSection("Summary");
+        out.field("Total Bookings", count);
+        out.field("Total Revenue", revenue, Kind.MONEY);
+        out.endSection();
+        out.endReport();
+    }
+
+    private <T extends PeriodMetrics> void writeRollupTable(ReportWriter out, String section, String periodLabel,
+                                                            List<T> rows, Function<T, String> label) throws IOException {
+        double totalRevenue = 0;
+        int totalBookings = 0;
+
+        out.beginSection(section);
+        out.beginTable(ReportColumn.text(periodLabel, 10), ReportColumn.integer("Bookings", 10),
+                ReportColumn.money("Revenue", 12), ReportColumn.money("Average Booking", 15));
+
+        for (T row : rows) {
+            totalRevenue += row.totalRevenue();
+            totalBookings += row.totalBookings();
+
+            out.cell(label.apply(row));
+            out.cell(row.totalBookings());
+            out.cell(row.totalRevenue());
+            out.cell(row.averageBookingValue());
+            out.endRow();
+        }
+
+        out.cell("TOTAL");
+        out.cell(totalBookings);
+        out.cell(totalRevenue);
+        out.cell(totalBookings > 0 ? totalRevenue / totalBookings : 0);
+        out.endRow();
+        out.endTable();
+        out.endSection();
+    }
+
+    private static String renderText(ReportBody body) {
+        StringWriter text = new StringWriter();
+        try {
+            body.writeTo(new TextReportWriter(text));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return text.toString();
     }
 
     public String occupancyReport(int month, int year) {
+        return renderText(out -> exportOccupancyReport(month, year, out));
+    }
+
+    public void exportOccupancyReport(int month, int year, ReportWriter out) throws IOException {
         YearMonth reportMonth = YearMonth.of(year, month);
         LocalDate startDate = reportMonth.atDay(1);
-        LocalDate endDate = reportMonth.atEndOfMonth();
-
-        List<Booking> bookings = getBookingsInDateRange(startDate, endDate);
-
-        StringBuilder report = new StringBuilder();
-        report.append(String.format("OCCUPANCY REPORT - %s %d\n", getMonthName(month), year));
-        report.append("-".repeat(40)).append("\n");
+        LocalDate endDate = reportMonth.plusMonths(1).atDay(1);
+
+        int bookedRoomNights = 0;
+        double revenue = 0;
+        try (Stream<Booking> bookings = streamBookingsInPeriod(startDate, endDate)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                bookedRoomNights += nights(booking);
+                revenue += booking.getPrice();
+            }
+        }
 
         int totalRoomNights = calculateTotalRoomNights(startDate, endDate);
-        int bookedRoomNights = calculateBookedRoomNights(bookings);
         double occupancyRate = totalRoomNights > 0 ? (double) bookedRoomNights / totalRoomNights * 100 : 0;
+        int roomsAvailable = totalRooms();
+
+        out.beginReport("ROOMIFY OCCUPANCY REPORT - " + getMonthName(month) + " " + year, LocalDate.now(clock));
+        out.beginSection("Occupancy");
+        out.field("Total Available Room-Nights", totalRoomNights);
+        out.field("Total Booked Room-Nights", bookedRoomNights);
+        out.field("Overall Occupancy Rate", occupancyRate, Kind.PERCENT);
+        out.field("Revenue Per Available Room", roomsAvailable > 0 ? revenue / roomsAvailable : 0, Kind.MONEY);
+        out.endSection();
+        out.endReport();
+    }
+
+    public RangeMetrics rangeMetrics(LocalDate from, LocalDate to) {
+        return rangeMetrics(null, from, to);
+    }
+
+    /**
+     * Revenue, room-nights and check-ins for {@code [from, to)}, for one room or for all
+     * rooms when {@code roomId} is null. Answered from the daily aggregates when they are
+     * configured, loaded and cover the range, otherwise by scanning the bookings of the range.
+     */
+    public RangeMetrics rangeMetrics(String roomId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
 
-        report.append(String.format("Total Available Room-Nights: %d\n", totalRoomNights));
-        report.append(String.format("Total Booked Room-Nights: %d\n", bookedRoomNights));
-        report.append(String.format("Overall Occupancy Rate: %.1f%%\n", occupancyRate));
-        report.append(String.format("Revenue Per Available Room: $%.2f\n",
-                bookings.stream().mapToDouble(Booking::getPrice).sum() / (totalRoomNights / reportMonth.lengthOfMonth())));
+        if (dailyAggregates != null && dailyAggregates.canAnswer(from, to)) {
+            return dailyAggregates.metrics(roomId, from, to);
+        }
+
+        double revenue = 0;
+        long roomNights = 0;
+        long bookings = 0;
+
+        try (Stream<Booking> stream = rawBookingsInPeriod(from, to)) {
+            Iterator<Booking> iterator = stream
+                    .filter(booking -> roomId == null || roomId.equals(booking.getRoomId()))
+                    .iterator();
+            while (iterator.hasNext()) {
+                Booking booking = iterator.next();
+                if (!booking.getFrom().isBefore(from)) {
+                    bookings++;
+                }
+                Booking clipped = clipToPeriod(booking, from, to);
+                revenue += clipped.getPrice();
+                roomNights += nights(clipped);
+            }
+        }
+
+        return new RangeMetrics(roomId, from, to, revenue, roomNights, bookings);
+    }
+
+    public String rangeReport(LocalDate from, LocalDate to) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            return "ERROR: Invalid range. Start date must be before end date.";
+        }
+        return renderText(out -> exportRangeReport(from, to, out));
+    }
+
+    /**
+     * Totals for {@code [from, to)}, followed by one row per room when the daily aggregates
+     * can answer the range.
+     */
+    public void exportRangeReport(LocalDate from, LocalDate to, ReportWriter out) throws IOException {
+        RangeMetrics totals = rangeMetrics(from, to);
+
+        out.beginReport("ROOMIFY RANGE REPORT - " + from + " to " + to + " (exclusive)", LocalDate.now(clock));
+        out.beginSection("Totals");
+        out.field("Total Revenue", totals.revenue(), Kind.MONEY);
+        out.field("Room Nights Booked", totals.roomNights());
+        out.field("Check-ins", totals.bookings());
+        out.endSection();
+
+        if (dailyAggregates != null && dailyAggregates.canAnswer(from, to)) {
+            out.beginSection("Rooms");
+            out.beginTable(ReportColumn.text("Room", 15), ReportColumn.integer("Check-ins", 10),
+                    ReportColumn.money("Revenue", 12), ReportColumn.integer("Nights", 10));
+            for (String roomId : dailyAggregates.roomIds()) {
+                RangeMetrics room = dailyAggregates.metrics(roomId, from, to);
+                if (room.roomNights() > 0 || room.bookings() > 0) {
+                    out.cell(roomId);
+                    out.cell(room.bookings());
+                    out.cell(room.revenue());
+                    out.cell(room.roomNights());
+                    out.endRow();
+                }
+            }
+            out.endTable();
+            out.endSection();
+        }
+        out.endReport();
+    }
 
-        return report.toString();
+    @FunctionalInterface
+    private interface ReportBody {
+        void writeTo(ReportWriter out) throws IOException;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.RoomInventory;
+import com.roomify.core.repository.RoomRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches a {@link RoomInventory} built from {@link RoomRepository#countByType()}, so
+ * reports and pricing can use real room counts without querying rooms on every call.
+ *
+ * <p>The snapshot is reloaded after {@link #invalidate()}, which room writes should call,
+ * and in any case once it is older than {@code maxAge} to pick up changes made elsewhere.
+ * Reads never block once a snapshot exists; reloads are serialized.
+ */
+public class RoomInventoryService {
+
+    static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+
+    private final RoomRepository roomRepository;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final Object loadLock = new Object();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private volatile RoomInventory current;
+    private long version;
+
+    public RoomInventoryService(RoomRepository roomRepository) {
+        this(roomRepository, Clock.systemDefaultZone(), DEFAULT_MAX_AGE);
+    }
+
+    public RoomInventoryService(RoomRepository roomRepository, Clock clock, Duration maxAge) {
+        this.roomRepository = roomRepository;
+        this.clock = clock;
+        this.maxAge = maxAge;
+    }
+
+    public RoomInventory current() {
+        RoomInventory snapshot = current;
+        if (snapshot != null && !isStale(snapshot)) {
+            return snapshot;
+        }
+
+        synchronized (loadLock) {
+            snapshot = current;
+            if (snapshot == null || isStale(snapshot)) {
+                long generation = invalidations.get();
+                snapshot = load();
+                // an invalidate() that raced with the load may not be reflected in it
+                if (invalidations.get() == generation) {
+                    current = snapshot;
+                }
+            }
+            return snapshot;
+        }
+    }
+
+    public int totalRooms() {
+        return current().totalRooms();
+    }
+
+    /**
+     * Drops the cached snapshot; the next read reloads it.
+     */
+    public void invalidate() {
+        invalidations.incrementAndGet();
+        current = null;
+    }
+
+    private boolean isStale(RoomInventory snapshot) {
+        return snapshot.loadedAt().plus(maxAge).isBefore(Instant.now(clock));
+    }
+
+    private RoomInventory load() {
+        Map<String, Long> counts = roomRepository.countByType();
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return new RoomInventory(++version, Instant.now(clock), (int) total, counts);
+    }
+}
@@ -2,15 +2,173 @@ package com.roomify.core.service;
 
 import com.roomify.core.dto.Room;
 import com.roomify.core.repository.RoomRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Room lookups through a read-through cache.
+ *
+ * <p>Rooms change rarely but are read on every page view, so each room is loaded once and
+ * kept together with an ETag derived from its content; the same room therefore has the
+ * same ETag on every node and after restarts. The cache holds at most {@code maxEntries}
+ * rooms and evicts arbitrary entries beyond that, which keeps reads lock-free.
+ *
+ * <p>{@link #saveRoom(Room)} invalidates the room, the {@link RoomInventoryService}
+ * snapshot and the rendered reports, whose room counts and occupancy it changes; code
+ * that writes to the repository directly calls {@link #invalidate(String)}.
+ * A load that races with an invalidation is returned but not cached.
+ */
 public class RoomService {
+
+    public record CachedRoom(String etag, Room room) {}
+
+    static final int DEFAULT_MAX_ENTRIES = 10_000;
+
     private final RoomRepository roomRepository;
+    private final RoomInventoryService roomInventory;
+    private final ReportCache reportCache;
+    private final int maxEntries;
+    private final Map<String, CachedRoom> cache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
 
     public RoomService(RoomRepository roomRepository) {
+        this(roomRepository, null, DEFAULT_MAX_ENTRIES);
+    }
+
+    public RoomService(RoomRepository roomRepository, RoomInventoryService roomInventory, int maxEntries) {
+        this(roomRepository, roomInventory, null, maxEntries);
+    }
+
+    public RoomService(RoomRepository roomRepository, RoomInventoryService roomInventory, ReportCache reportCache,
+                       int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one room");
+        }
         this.roomRepository = roomRepository;
+        this.roomInventory = roomInventory;
+        this.reportCache = reportCache;
+        this.maxEntries = maxEntries;
     }
 
     public Room getRoom(String id) {
-        return roomRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        return cachedRoom(id).room();
+    }
+
+    /**
+     * The room with its ETag; the returned room is a copy the caller may modify.
+     */
+    public CachedRoom cachedRoom(String id) {
+        CachedRoom cached = id == null ? null : cache.get(id);
+        if (cached == null) {
+            cached = load(id);
+        }
+        return new CachedRoom(cached.etag(), new Room(cached.room()));
+    }
+
+    /**
+     * Rooms for the given ids in request order, skipping unknown ids. Rooms missing from
+     * the cache are read with one {@link RoomRepository#findByIds} call.
+     */
+    public List<Room> getRooms(Collection<String> ids) {
+        Map<String, Room> found = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            CachedRoom cached = id == null ? null : cache.get(id);
+            if (cached != null) {
+                found.put(id, new Room(cached.room()));
+            } else if (id != null) {
+                misses.add(id);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long generation = invalidations.get();
+            List<Room> loaded = roomRepository.findByIds(misses);
+            boolean cacheable = invalidations.get() == generation;
+            for (Room room : loaded) {
+                if (cacheable) {
+                    cache.put(room.getId(), new CachedRoom(etag(room), new Room(room)));
+                }
+                found.put(room.getId(), room);
+            }
+            evictOverflow();
+        }
+
+        List<Room> rooms = new ArrayList<>(found.size());
+        for (String id : ids) {
+            Room room = id == null ? null : found.get(id);
+            if (room != null) {
+                rooms.add(room);
+            }
+        }
+        return rooms;
+    }
+
+    public Room saveRoom(Room room) {
+        Room saved = roomRepository.save(room);
+        invalidate(saved.getId());
+        if (roomInventory != null) {
+            roomInventory.invalidate();
+        }
+        if (reportCache != null) {
+            reportCache.invalidateAll();
+        }
+        return saved;
+    }
+
+    public void invalidate(String id) {
+        invalidations.incrementAndGet();
+        if (id != null) {
+            cache.remove(id);
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.clear();
+    }
+
+    int cachedRooms() {
+        return cache.size();
+    }
+
+    private CachedRoom load(String id) {
+        long generation = invalidations.get();
+        Room room = roomRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Room not found"));
+        CachedRoom loaded = new CachedRoom(etag(room), new Room(room));
+        if (invalidations.get() == generation) {
+            cache.put(id, loaded);
+            evictOverflow();
+        }
+        return loaded;
+    }
+
+    private void evictOverflow() {
+        Iterator<String> ids = cache.keySet().iterator();
+        while (cache.size() > maxEntries && ids.hasNext()) {
+            ids.next();
+            ids.remove();
+        }
+    }
+
+    static String etag(Room room) {
+        String content = room.getId() + '\u0000' + room.getType() + '\u0000' + room.getCapacity() + '\u0000'
+                + Double.toString(room.getBasePrice());
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return "\"room-" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
@@ -0,0 +1,95 @@
+package com.roomify.core.sketch;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Bounded-memory summary of the customers behind a set of bookings: a {@link HyperLogLog}
+ * for the number of distinct customers and a {@link SpaceSavingTopK} over revenue for the
+ * biggest spenders. Its size depends on the two parameters only, not on how many customers
+ * were seen, and sketches built per month or per node merge into the sketch of the whole.
+ *
+ * <p>The binary form is a version byte followed by the two sketches, so it can be cached or
+ * shipped between nodes and merged on arrival. Not thread-safe.
+ */
+public final class CustomerSketch {
+
+    public static final int DEFAULT_TOP_CAPACITY = 256;
+
+    private static final byte VERSION = 1;
+
+    private final HyperLogLog customers;
+    private final SpaceSavingTopK revenue;
+
+    public CustomerSketch() {
+        this(HyperLogLog.DEFAULT_PRECISION, DEFAULT_TOP_CAPACITY);
+    }
+
+    public CustomerSketch(int precision, int topCapacity) {
+        this(new HyperLogLog(precision), new SpaceSavingTopK(topCapacity));
+    }
+
+    private CustomerSketch(HyperLogLog customers, SpaceSavingTopK revenue) {
+        this.customers = customers;
+        this.revenue = revenue;
+    }
+
+    public void add(String userId, double price) {
+        customers.add(userId);
+        revenue.add(userId, price);
+    }
+
+    public long uniqueCustomers() {
+        return customers.estimate();
+    }
+
+    public double uniqueCustomersRelativeError() {
+        return customers.relativeStandardError();
+    }
+
+    public List<SpaceSavingTopK.Estimate> topCustomers(int k) {
+        return revenue.top(k);
+    }
+
+    /**
+     * Upper bound on the revenue of any customer missing from {@link #topCustomers(int)}.
+     */
+    public double unlistedRevenueBound() {
+        return revenue.minWeight();
+    }
+
+    public void merge(CustomerSketch other) {
+        customers.merge(other.customers);
+        revenue.merge(other.revenue);
+    }
+
+    public CustomerSketch copy() {
+        return new CustomerSketch(customers.copy(), revenue.copy());
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + customers.serializedSize() + revenue.serializedSize());
+        buffer.put(VERSION);
+        customers.writeTo(buffer);
+        revenue.writeTo(buffer);
+        return buffer.array();
+    }
+
+    public static CustomerSketch fromBytes(byte[] bytes) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported customer sketch version: " + version);
+            }
+            CustomerSketch sketch = new CustomerSketch(HyperLogLog.readFrom(buffer), SpaceSavingTopK.readFrom(buffer));
+            if (buffer.hasRemaining()) {
+                throw new IllegalArgumentException("Trailing bytes after customer sketch");
+            }
+            return sketch;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated customer sketch", e);
+        }
+    }
+}
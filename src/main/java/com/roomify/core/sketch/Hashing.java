@@ -0,0 +1,26 @@
+package com.roomify.core.sketch;
+
+final class Hashing {
+
+    private Hashing() {
+    }
+
+    /**
+     * 64-bit FNV-1a over the UTF-16 chars, finished with the MurmurHash3 fmix64 mixer so
+     * every output bit depends on every input bit. Stable across JVMs and nodes, unlike
+     * {@link String#hashCode()} widened to 64 bits.
+     */
+    static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
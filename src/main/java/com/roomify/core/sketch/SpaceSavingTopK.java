@@ -0,0 +1,238 @@
+package com.roomify.core.sketch;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Weighted Space-Saving summary of the heaviest items in a stream.
+ *
+ * <p>Keeps at most {@code capacity} counters. An unseen item arriving at a full summary
+ * takes over the smallest counter and inherits its weight as the item's possible
+ * overestimate. Every reported weight therefore lies in {@code [weight - error, weight]},
+ * and any item that is not reported has a true weight of at most {@link #minWeight()},
+ * itself never more than {@code totalWeight / capacity}. The counters sit in an indexed
+ * min-heap, so each update is O(log capacity).
+ *
+ * <p>Summaries merge by adding counters item by item; an item missing from a full summary
+ * is credited with that summary's minimum as both weight and error, which keeps the bounds
+ * above valid for the merged stream. Weights must be non-negative. Not thread-safe.
+ */
+public final class SpaceSavingTopK {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+    private double totalWeight;
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public void add(String item, double weight) {
+        if (weight < 0 || Double.isNaN(weight)) {
+            throw new IllegalArgumentException("Weight must be non-negative");
+        }
+        totalWeight += weight;
+
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.weight += weight;
+            siftDown(counter.position);
+        } else if (size < capacity) {
+            counter = new Counter(item, weight, 0);
+            counters.put(item, counter);
+            counter.position = size;
+            heap[size++] = counter;
+            siftUp(counter.position);
+        } else {
+            // evict the lightest item; the newcomer may have been seen as often as it was
+            counter = heap[0];
+            counters.remove(counter.item);
+            counter.item = item;
+            counter.error = counter.weight;
+            counter.weight += weight;
+            counters.put(item, counter);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Upper bound on the weight of any item that is not in the summary.
+     */
+    public double minWeight() {
+        return size < capacity ? 0 : heap[0].weight;
+    }
+
+    public double totalWeight() {
+        return totalWeight;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The {@code k} heaviest items, heaviest first.
+     */
+    public List<Estimate> top(int k) {
+        List<Estimate> estimates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            estimates.add(new Estimate(heap[i].item, heap[i].weight, heap[i].error));
+        }
+        estimates.sort(Comparator.comparingDouble(Estimate::weight).reversed().thenComparing(Estimate::item));
+        return estimates.size() > k ? new ArrayList<>(estimates.subList(0, k)) : estimates;
+    }
+
+    public void merge(SpaceSavingTopK other) {
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("Cannot merge summaries of different capacity");
+        }
+        double thisMin = minWeight();
+        double otherMin = other.minWeight();
+
+        Map<String, Counter> merged = new HashMap<>((size + other.size) * 2);
+        for (int i = 0; i < size; i++) {
+            Counter counter = heap[i];
+            Counter theirs = other.counters.get(counter.item);
+            merged.put(counter.item, theirs != null
+                    ? new Counter(counter.item, counter.weight + theirs.weight, counter.error + theirs.error)
+                    : new Counter(counter.item, counter.weight + otherMin, counter.error + otherMin));
+        }
+        for (int i = 0; i < other.size; i++) {
+            Counter theirs = other.heap[i];
+            if (!merged.containsKey(theirs.item)) {
+                merged.put(theirs.item, new Counter(theirs.item, theirs.weight + thisMin, theirs.error + thisMin));
+            }
+        }
+
+        List<Counter> kept = new ArrayList<>(merged.values());
+        kept.sort(Comparator.comparingDouble((Counter c) -> c.weight).reversed().thenComparing(c -> c.item));
+        if (kept.size() > capacity) {
+            kept = kept.subList(0, capacity);
+        }
+
+        counters.clear();
+        Arrays.fill(heap, null);
+        size = 0;
+        for (Counter counter : kept) {
+            counters.put(counter.item, counter);
+            counter.position = size;
+            heap[size++] = counter;
+            siftUp(counter.position);
+        }
+        totalWeight += other.totalWeight;
+    }
+
+    public SpaceSavingTopK copy() {
+        SpaceSavingTopK copy = new SpaceSavingTopK(capacity);
+        copy.merge(this);
+        return copy;
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putInt(capacity).putDouble(totalWeight).putInt(size);
+        for (int i = 0; i < size; i++) {
+            byte[] item = heap[i].item.getBytes(StandardCharsets.UTF_8);
+            buffer.putShort((short) item.length).put(item).putDouble(heap[i].weight).putDouble(heap[i].error);
+        }
+    }
+
+    public int serializedSize() {
+        int bytes = Integer.BYTES + Double.BYTES + Integer.BYTES;
+        for (int i = 0; i < size; i++) {
+            bytes += Short.BYTES + heap[i].item.getBytes(StandardCharsets.UTF_8).length + 2 * Double.BYTES;
+        }
+        return bytes;
+    }
+
+    public static SpaceSavingTopK readFrom(ByteBuffer buffer) {
+        int capacity = buffer.getInt();
+        double totalWeight = buffer.getDouble();
+        int size = buffer.getInt();
+        if (capacity < 1 || size < 0 || size > capacity) {
+            throw new IllegalArgumentException("Corrupt Space-Saving summary");
+        }
+
+        SpaceSavingTopK summary = new SpaceSavingTopK(capacity);
+        for (int i = 0; i < size; i++) {
+            byte[] item = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(item);
+            Counter counter = new Counter(new String(item, StandardCharsets.UTF_8), buffer.getDouble(), buffer.getDouble());
+            summary.counters.put(counter.item, counter);
+            counter.position = summary.size;
+            summary.heap[summary.size++] = counter;
+            summary.siftUp(counter.position);
+        }
+        summary.totalWeight = totalWeight;
+        return summary;
+    }
+
+    private void siftUp(int position) {
+        Counter counter = heap[position];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (heap[parent].weight <= counter.weight) {
+                break;
+            }
+            place(heap[parent], position);
+            position = parent;
+        }
+        place(counter, position);
+    }
+
+    private void siftDown(int position) {
+        Counter counter = heap[position];
+        int half = size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < size && heap[child + 1].weight < heap[child].weight) {
+                child++;
+            }
+            if (counter.weight <= heap[child].weight) {
+                break;
+            }
+            place(heap[child], position);
+            position = child;
+        }
+        place(counter, position);
+    }
+
+    private void place(Counter counter, int position) {
+        heap[position] = counter;
+        counter.position = position;
+    }
+
+    /**
+     * An item's estimated weight and how much of it may be overcounted.
+     */
+    public record Estimate(String item, double weight, double error) {
+
+        public double guaranteedWeight() {
+            return weight - error;
+        }
+    }
+
+    private static final class Counter {
+        String item;
+        double weight;
+        double error;
+        int position;
+
+        Counter(String item, double weight, double error) {
+            this.item = item;
+            this.weight = weight;
+            this.error = error;
+        }
+    }
+}
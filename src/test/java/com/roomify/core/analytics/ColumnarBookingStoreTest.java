@@ -0,0 +1,184 @@
+package com.roomify.core.analytics;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarBookingStoreTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    private final InMemoryRoomRepository roomRepository = new InMemoryRoomRepository();
+    private ColumnarBookingStore store;
+
+    @BeforeEach
+    void setUp() {
+        roomRepository.save(new Room("r1", "double", 2, 100));
+        roomRepository.save(new Room("r2", "double", 2, 100));
+        roomRepository.save(new Room("s1", "suite", 4, 300));
+        Clock clock = Clock.fixed(Instant.parse("2025-05-01T12:00:00Z"), ZoneOffset.UTC);
+        store = new ColumnarBookingStore(roomRepository, clock);
+    }
+
+    @Test
+    void groupByRoomType_sumsRevenueInCents() {
+        store.load(Stream.of(
+                new Booking("b1", "r1", "u1", JUNE_1, JUNE_1.plusDays(2), 200.10),
+                new Booking("b2", "r2", "u2", JUNE_1, JUNE_1.plusDays(1), 99.95),
+                new Booking("b3", "s1", "u1", JUNE_1, JUNE_1.plusDays(3), 900.0)));
+
+        List<GroupResult> byType = store.query().groupBy(Dimension.ROOM_TYPE).run();
+
+        assertEquals(List.of(new GroupResult("suite", 1, 3, 90000), new GroupResult("double", 2, 3, 30005)), byType);
+        assertEquals(300.05, byType.get(1).revenue(), 1e-9);
+    }
+
+    @Test
+    void filters_combine_andUnknownValuesMatchNothing() {
+        store.load(Stream.of(
+                new Booking("b1", "r1", "u1", JUNE_1, JUNE_1.plusDays(2), 200),
+                new Booking("b2", "r1", "u2", JUNE_1.plusDays(1), JUNE_1.plusDays(6), 500),
+                new Booking("b3", "s1", "u1", JUNE_1.plusDays(7), JUNE_1.plusDays(8), 300)));
+
+        List<GroupResult> result = store.query()
+                .checkInBetween(JUNE_1, JUNE_1.plusDays(7))
+                .roomType("double")
+                .stayLengthBetween(1, 3)
+                .run();
+
+        assertEquals(List.of(new GroupResult("all", 1, 2, 20000)), result);
+        assertTrue(store.query().customer("nobody").run().isEmpty());
+        assertTrue(store.query().roomType("penthouse").run().isEmpty());
+        // June 1st and 8th 2025 are Sundays
+        assertEquals(2, store.query().weekdays(EnumSet.of(DayOfWeek.SUNDAY)).run().get(0).bookings());
+    }
+
+    @Test
+    void emptyWeekdaySet_matchesNothing() {
+        store.load(Stream.of(new Booking("b1", "r1", "u1", JUNE_1, JUNE_1.plusDays(1), 100)));
+
+        assertTrue(store.query().weekdays(Set.of()).run().isEmpty());
+    }
+
+    @Test
+    void events_recordLeadTime_andCancellationsDropRows() {
+        store.load(Stream.of(new Booking("old", "r1", "u1", JUNE_1, JUNE_1.plusDays(1), 100)));
+        store.onBookingSaved(new Booking("b1", "r2", "u2", JUNE_1, JUNE_1.plusDays(2), 200));
+        store.onBookingSaved(new Booking("b2", "s1", "u3", JUNE_1.plusDays(30), JUNE_1.plusDays(31), 300));
+        // an update replaces the row but keeps the original booking date
+        store.onBookingSaved(new Booking("b2", "s1", "u3", JUNE_1.plusDays(30), JUNE_1.plusDays(32), 600));
+
+        Map<String, Long> byLead = store.query().groupBy(Dimension.LEAD_TIME).run().stream()
+                .collect(Collectors.toMap(GroupResult::key, GroupResult::bookings));
+        assertEquals(Map.of("unknown", 1L, "31", 1L, "61", 1L), byLead);
+        assertEquals(1, store.query().leadTimeBetween(0, 40).run().get(0).bookings());
+
+        store.onBookingCancelled(new Booking("b1", null, null, null, null, 0));
+        store.onBookingCancelled(new Booking("missing", null, null, null, null, 0));
+
+        assertEquals(2, store.size());
+        assertEquals(70000, store.query().run().get(0).revenueCents());
+    }
+
+    @Test
+    void cancellations_compactTheColumns_andKeepRowsFindable() {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            bookings.add(new Booking("b" + i, i % 2 == 0 ? "r1" : "s1", "u" + i, JUNE_1.plusDays(i % 50),
+                    JUNE_1.plusDays(i % 50 + 1), 100));
+        }
+        store.load(bookings.stream());
+        for (int i = 0; i < 15_000; i++) {
+            store.onBookingCancelled(bookings.get(i));
+        }
+
+        assertEquals(5_000, store.size());
+        assertEquals(List.of(new GroupResult("double", 2_500, 2_500, 25_000_000),
+                new GroupResult("suite", 2_500, 2_500, 25_000_000)), store.query().groupBy(Dimension.ROOM_TYPE).run());
+
+        // rows that moved during compaction are still replaced and cancelled by id
+        store.onBookingSaved(new Booking("b19999", "s1", "u19999", JUNE_1, JUNE_1.plusDays(3), 900));
+        store.onBookingCancelled(bookings.get(19_998));
+        store.onBookingSaved(bookings.get(0));
+        assertEquals(5_000, store.size());
+        assertEquals(50_000_000 - 10_000 + 90_000 - 10_000 + 10_000, store.query().run().get(0).revenueCents());
+    }
+
+    @Test
+    void load_keepsChangesMadeByEventsWhileItRuns() {
+        Booking kept = new Booking("b1", "r1", "u1", JUNE_1, JUNE_1.plusDays(1), 100);
+        Booking cancelled = new Booking("b2", "r2", "u2", JUNE_1, JUNE_1.plusDays(1), 100);
+        Booking updated = new Booking("b3", "s1", "u3", JUNE_1, JUNE_1.plusDays(1), 300);
+
+        store.load(Stream.of(kept, cancelled, updated).peek(booking -> {
+            if (booking == kept) {
+                assertFalse(store.isReady());
+                store.onBookingCancelled(cancelled);
+                store.onBookingSaved(new Booking("b3", "s1", "u3", JUNE_1, JUNE_1.plusDays(2), 600));
+            }
+        }));
+
+        assertTrue(store.isReady());
+        assertEquals(2, store.size());
+        assertEquals(70000, store.query().run().get(0).revenueCents());
+    }
+
+    @Test
+    void parallelScan_matchesABruteForceGroupBy() {
+        Random random = new Random(5);
+        List<Booking> bookings = new ArrayList<>();
+        String[] roomIds = {"r1", "r2", "s1"};
+        for (int i = 0; i < 200_000; i++) {
+            LocalDate from = JUNE_1.plusDays(random.nextInt(365));
+            bookings.add(new Booking("b" + i, roomIds[random.nextInt(3)], "u" + random.nextInt(5000), from,
+                    from.plusDays(1 + random.nextInt(14)), random.nextInt(100_000) / 100.0));
+        }
+        store.load(bookings.stream());
+        store.onBookingCancelled(bookings.get(17));
+
+        Map<String, long[]> expected = new HashMap<>();
+        for (Booking booking : bookings) {
+            if (booking == bookings.get(17) || booking.getFrom().isAfter(JUNE_1.plusDays(200))) {
+                continue;
+            }
+            long[] totals = expected.computeIfAbsent(booking.getUserId(), k -> new long[2]);
+            totals[0]++;
+            totals[1] += Math.round(booking.getPrice() * 100);
+        }
+
+        List<GroupResult> result = store.query()
+                .checkInBetween(JUNE_1, JUNE_1.plusDays(201))
+                .groupBy(Dimension.CUSTOMER)
+                .run();
+
+        assertEquals(expected.size(), result.size());
+        for (GroupResult group : result) {
+            assertArrayEquals(expected.get(group.key()), new long[]{group.bookings(), group.revenueCents()});
+        }
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).revenueCents() >= result.get(i).revenueCents());
+        }
+
+        List<GroupResult> top = store.query()
+                .checkInBetween(JUNE_1, JUNE_1.plusDays(201))
+                .groupBy(Dimension.CUSTOMER)
+                .limit(10)
+                .run();
+        assertEquals(10, top.size());
+        assertEquals(result.get(0), top.get(0));
+        assertEquals(result.get(9).revenueCents(), top.get(9).revenueCents());
+    }
+}
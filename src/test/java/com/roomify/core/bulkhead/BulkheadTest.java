@@ -0,0 +1,125 @@
+package com.roomify.core.bulkhead;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.PaymentResult;
+import com.roomify.core.exception.BulkheadFullException;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.service.PaymentService;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+
+    @Test
+    void call_releasesPermit_evenWhenCallThrows() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> bulkhead.call(() -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(0, bulkhead.inFlight());
+        assertEquals("ok", bulkhead.call(() -> "ok"));
+    }
+
+    @Test
+    void call_whenAllPermitsTaken_failsAfterMaxWait() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("payment service", 1, Duration.ofMillis(20));
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> slow = executor.submit(() -> bulkhead.run(() -> {
+                entered.countDown();
+                await(finish);
+            }));
+            entered.await();
+
+            BulkheadFullException e = assertThrows(BulkheadFullException.class, () -> bulkhead.call(() -> "late"));
+            assertTrue(e.getMessage().contains("payment service"));
+            assertEquals(1, bulkhead.inFlight());
+
+            finish.countDown();
+            slow.get();
+            assertEquals(0, bulkhead.inFlight());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void separateBulkheads_doNotShareCapacity() {
+        Bulkhead payments = new Bulkhead("payment service", 1, Duration.ZERO);
+        Bulkhead notifications = new Bulkhead("notification service", 1, Duration.ZERO);
+
+        payments.acquire();
+        try {
+            assertThrows(BulkheadFullException.class, () -> payments.run(() -> { }));
+            assertDoesNotThrow(() -> notifications.run(() -> { }));
+        } finally {
+            payments.release();
+        }
+    }
+
+    @Test
+    void constructor_rejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 0, Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> new Bulkhead("test", 1, Duration.ofMillis(-1)));
+    }
+
+    @Test
+    void paymentService_delegatesThroughBulkhead() {
+        PaymentService delegate = new PaymentService() {
+            @Override
+            public PaymentResult charge(String userId, double amount) {
+                return new PaymentResult(true, "tx-" + userId);
+            }
+
+            @Override
+            public PaymentResult refund(String userId, double amount) {
+                return new PaymentResult(true, "refund-" + userId);
+            }
+        };
+        Bulkhead bulkhead = new Bulkhead("payment service", 1, Duration.ZERO);
+        PaymentService service = new BulkheadPaymentService(delegate, bulkhead);
+
+        assertEquals("tx-u1", service.charge("u1", 100).getTransactionId());
+        assertEquals("refund-u1", service.refund("u1", 50).getTransactionId());
+        assertEquals(0, bulkhead.inFlight());
+    }
+
+    @Test
+    void repositoryStream_holdsPermitUntilClosed() {
+        InMemoryBookingRepository delegate = new InMemoryBookingRepository();
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        delegate.save(new Booking("b1", "room-1", "user-1", from, from.plusDays(2), 200));
+        Bulkhead bulkhead = new Bulkhead("booking repository", 1, Duration.ZERO);
+        BulkheadBookingRepository repository = new BulkheadBookingRepository(delegate, bulkhead);
+
+        try (Stream<Booking> bookings = repository.streamInRange(from, from.plusDays(10))) {
+            assertEquals(1, bulkhead.inFlight());
+            assertThrows(BulkheadFullException.class, () -> repository.findById("b1"));
+            assertEquals(1, bookings.count());
+        }
+
+        assertEquals(0, bulkhead.inFlight());
+        assertTrue(repository.findById("b1").isPresent());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
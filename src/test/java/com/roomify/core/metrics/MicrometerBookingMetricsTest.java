@@ -0,0 +1,39 @@
+package com.roomify.core.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MicrometerBookingMetricsTest {
+
+    @Test
+    void lapsAreRecordedPerStage_andRejectionsPerReason() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BookingMetrics metrics = new MicrometerBookingMetrics(registry, true);
+
+        long startedAt = metrics.start();
+        long lap = metrics.lap(BookingMetrics.Stage.VALIDATION, startedAt);
+        metrics.lap(BookingMetrics.Stage.PRICING, lap);
+        metrics.completed(startedAt);
+        metrics.rejected(BookingMetrics.Rejection.UNAVAILABLE);
+        metrics.rejected(BookingMetrics.Rejection.UNAVAILABLE);
+
+        assertTrue(lap >= startedAt);
+        assertEquals(1, registry.get("roomify.booking.stage").tag("stage", "validation").timer().count());
+        assertEquals(1, registry.get("roomify.booking.stage").tag("stage", "pricing").timer().count());
+        assertEquals(0, registry.get("roomify.booking.stage").tag("stage", "payment").timer().count());
+        assertEquals(1, registry.get("roomify.booking.create").timer().count());
+        assertTrue(registry.get("roomify.booking.create").timer().totalTime(TimeUnit.NANOSECONDS) >= 0);
+        assertEquals(2.0, registry.get("roomify.booking.rejected").tag("reason", "unavailable").counter().count());
+        assertEquals(0.0, registry.get("roomify.booking.rejected").tag("reason", "payment_declined").counter().count());
+    }
+
+    @Test
+    void none_neverReadsTheClock() {
+        assertEquals(0, BookingMetrics.NONE.start());
+        assertEquals(0, BookingMetrics.NONE.lap(BookingMetrics.Stage.PAYMENT, 123));
+    }
+}
@@ -0,0 +1,46 @@
+package com.roomify.core.report;
+
+import com.roomify.core.dto.MonthlyMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonthlyMetricsCodecTest {
+
+    private static final List<MonthlyMetrics> METRICS = List.of(
+            MonthlyMetrics.of(2025, 6, 42, 12345.678, 150, 97, 30),
+            MonthlyMetrics.of(2025, 7, 0, 0, 155, 0, 0));
+
+    @Test
+    void binary_roundTripsIncludingDerivedFields() {
+        byte[] bytes = MonthlyMetricsCodec.encode(METRICS);
+
+        assertEquals(5 + 2 * MonthlyMetricsCodec.RECORD_BYTES, bytes.length);
+        assertEquals(METRICS, MonthlyMetricsCodec.decode(bytes));
+    }
+
+    @Test
+    void binary_rejectsTruncatedOrForeignPayloads() {
+        byte[] bytes = MonthlyMetricsCodec.encode(METRICS);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MonthlyMetricsCodec.decode(Arrays.copyOf(bytes, bytes.length - 1)));
+        bytes[0] = 9;
+        assertThrows(IllegalArgumentException.class, () -> MonthlyMetricsCodec.decode(bytes));
+        assertThrows(IllegalArgumentException.class, () -> MonthlyMetricsCodec.decode(new byte[0]));
+    }
+
+    @Test
+    void json_writesFlatObjects() {
+        assertEquals("[{\"year\":2025,\"month\":6,\"totalBookings\":42,\"totalRevenue\":12345.68,"
+                        + "\"averageBookingValue\":293.94,\"totalRoomNights\":150,\"bookedRoomNights\":97,"
+                        + "\"occupancyRate\":0.6467,\"uniqueCustomers\":30},"
+                        + "{\"year\":2025,\"month\":7,\"totalBookings\":0,\"totalRevenue\":0.00,"
+                        + "\"averageBookingValue\":0.00,\"totalRoomNights\":155,\"bookedRoomNights\":0,"
+                        + "\"occupancyRate\":0.0000,\"uniqueCustomers\":0}]",
+                MonthlyMetricsCodec.toJson(METRICS));
+    }
+}
@@ -0,0 +1,119 @@
+package com.roomify.core.report;
+
+import com.roomify.core.report.ReportColumn.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportWriterTest {
+
+    private static final LocalDate GENERATED_ON = LocalDate.of(2025, 7, 1);
+
+    @Test
+    void appendFixed_matchesStringFormat() {
+        Random random = new Random(11);
+        for (int i = 0; i < 10_000; i++) {
+            double value = (random.nextDouble() - 0.3) * Math.pow(10, random.nextInt(9));
+            for (int decimals = 0; decimals <= 2; decimals++) {
+                String expected = String.format(Locale.ROOT, "%." + decimals + "f", value);
+                String actual = NumberFormatter.appendFixed(new StringBuilder(), value, decimals).toString();
+                if (!expected.equals(actual)) {
+                    // the two only disagree on values sitting on a rounding tie in binary
+                    assertEquals(Double.parseDouble(expected), Double.parseDouble(actual), Math.pow(10, -decimals));
+                }
+            }
+        }
+        assertEquals("0.00", NumberFormatter.appendFixed(new StringBuilder(), -0.001, 2).toString());
+        assertEquals(String.format(Locale.ROOT, "%.2f", 1234567890123456789.0),
+                NumberFormatter.appendFixed(new StringBuilder(), 1234567890123456789.0, 2).toString());
+    }
+
+    @Test
+    void text_alignsColumnsAndFormatsFields() throws IOException {
+        StringWriter out = new StringWriter();
+
+        write(new TextReportWriter(out));
+
+        String text = out.toString();
+        assertTrue(text.startsWith("=".repeat(60) + "\n"));
+        assertTrue(text.contains("\nREVENUE\n" + "-".repeat(20) + "\n"));
+        assertTrue(text.contains("Total Revenue: $1234.50\n"));
+        assertTrue(text.contains("Occupancy: 42.3%\n"));
+        assertTrue(text.contains(String.format("%-15s %8s %12s\n%s\n", "Room ID", "Bookings", "Revenue", "-".repeat(37))));
+        assertTrue(text.contains(String.format("%-15s %8d %12s\n", "room-1", 3, "$1200.00")));
+        assertTrue(text.contains(String.format("%-15s %8d %12s\n", "a,\"b\"", 1, "$34.50")));
+        assertTrue(text.endsWith("Report generated on: 2025-07-01\n" + "=".repeat(60)));
+    }
+
+    @Test
+    void csv_quotesCellsThatNeedIt() throws IOException {
+        StringWriter out = new StringWriter();
+
+        write(new CsvReportWriter(out));
+
+        assertEquals("Report,Test Report\r\n"
+                + "Generated On,2025-07-01\r\n"
+                + "\r\n"
+                + "Revenue\r\n"
+                + "Total Revenue,1234.50\r\n"
+                + "Total Bookings,4\r\n"
+                + "Occupancy,42.3\r\n"
+                + "Room ID,Bookings,Revenue\r\n"
+                + "room-1,3,1200.00\r\n"
+                + "\"a,\"\"b\"\"\",1,34.50\r\n"
+                + "\r\n"
+                + "Notes\r\n"
+                + "nothing else\r\n", out.toString());
+    }
+
+    @Test
+    void json_writesOneWellFormedDocument() throws IOException {
+        StringWriter out = new StringWriter();
+
+        write(new JsonReportWriter(out));
+
+        assertEquals("{\"title\":\"Test Report\",\"generatedOn\":\"2025-07-01\",\"sections\":["
+                + "{\"name\":\"Revenue\",\"fields\":{\"totalRevenue\":1234.50,\"totalBookings\":4,\"occupancy\":42.3},"
+                + "\"rows\":[{\"roomId\":\"room-1\",\"bookings\":3,\"revenue\":1200.00},"
+                + "{\"roomId\":\"a,\\\"b\\\"\",\"bookings\":1,\"revenue\":34.50}]},"
+                + "{\"name\":\"Notes\",\"messages\":[\"nothing else\"]}]}", out.toString());
+    }
+
+    @Test
+    void format_parsesCaseInsensitively() {
+        assertEquals(ReportFormat.JSON, ReportFormat.parse("json"));
+        assertEquals(ReportFormat.TEXT, ReportFormat.parse(null));
+        assertEquals("text/csv", ReportFormat.parse("CSV").contentType());
+        assertThrows(IllegalArgumentException.class, () -> ReportFormat.parse("xml"));
+    }
+
+    private static void write(ReportWriter out) throws IOException {
+        out.beginReport("Test Report", GENERATED_ON);
+        out.beginSection("Revenue");
+        out.field("Total Revenue", 1234.5, Kind.MONEY);
+        out.field("Total Bookings", 4);
+        out.field("Occupancy", 42.25, Kind.PERCENT);
+        out.beginTable(ReportColumn.text("Room ID", 15), ReportColumn.integer("Bookings", 8),
+                ReportColumn.money("Revenue", 12));
+        out.cell("room-1");
+        out.cell(3);
+        out.cell(1200.0);
+        out.endRow();
+        out.cell("a,\"b\"");
+        out.cell(1);
+        out.cell(34.5);
+        out.endRow();
+        out.endTable();
+        out.endSection();
+        out.beginSection("Notes");
+        out.message("nothing else");
+        out.endSection();
+        out.endReport();
+    }
+}
@@ -0,0 +1,191 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryBookingRepositoryTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    private final InMemoryBookingRepository repository = new InMemoryBookingRepository();
+
+    @Test
+    void save_assignsId_andIndexesByRoomAndUser() {
+        Booking saved = repository.save(booking(null, "room-1", "user-1", 0, 2));
+
+        assertNotNull(saved.getId());
+        assertEquals(1, repository.findByRoomId("room-1").size());
+        assertEquals(1, repository.findByUserId("user-1").size());
+        assertTrue(repository.findById(saved.getId()).isPresent());
+    }
+
+    @Test
+    void save_overwrite_movesBookingBetweenIndexes() {
+        repository.save(booking("b1", "room-1", "user-1", 0, 2));
+        repository.save(booking("b1", "room-2", "user-2", 10, 12));
+
+        assertTrue(repository.findByRoomId("room-1").isEmpty());
+        assertTrue(repository.findByUserId("user-1").isEmpty());
+        assertEquals(1, repository.findByRoomId("room-2").size());
+        assertEquals(1, repository.findByUserId("user-2").size());
+        assertTrue(repository.findInRange(JUNE_1, JUNE_1.plusDays(2)).isEmpty());
+        assertEquals(1, repository.findInRange(JUNE_1.plusDays(11), JUNE_1.plusDays(12)).size());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void save_overwriteWithSameKey_keepsBookingIndexed() {
+        repository.save(booking("b1", "room-1", "user-1", 0, 2));
+        Booking updated = booking("b1", "room-1", "user-1", 0, 3);
+        updated.setPrice(999.0);
+        repository.save(updated);
+
+        List<Booking> roomBookings = repository.findByRoomId("room-1");
+        assertEquals(1, roomBookings.size());
+        assertEquals(999.0, roomBookings.get(0).getPrice());
+        assertEquals(1, repository.findInRange(JUNE_1, JUNE_1.plusDays(1)).size());
+    }
+
+    @Test
+    void delete_removesFromAllIndexes() {
+        repository.save(booking("b1", "room-1", "user-1", 0, 2));
+
+        repository.delete("b1");
+
+        assertTrue(repository.findById("b1").isEmpty());
+        assertTrue(repository.findByRoomId("room-1").isEmpty());
+        assertTrue(repository.findByUserId("user-1").isEmpty());
+        assertTrue(repository.findInRange(JUNE_1.minusDays(30), JUNE_1.plusDays(30)).isEmpty());
+    }
+
+    @Test
+    void findInRange_returnsOverlappingStaysOnly() {
+        repository.save(booking("long", "room-1", "u", -20, 1));
+        repository.save(booking("before", "room-2", "u", -5, 0));
+        repository.save(booking("inside", "room-3", "u", 3, 5));
+        repository.save(booking("after", "room-4", "u", 7, 9));
+
+        List<String> ids = repository.findInRange(JUNE_1, JUNE_1.plusDays(7)).stream().map(Booking::getId).sorted().toList();
+
+        assertEquals(List.of("inside", "long"), ids);
+    }
+
+    @Test
+    void findOverlapping_onlyMatchesTheRoom() {
+        repository.save(booking("a", "room-1", "u", 0, 3));
+        repository.save(booking("b", "room-1", "u", 5, 8));
+        repository.save(booking("c", "room-2", "u", 0, 8));
+
+        List<Booking> overlapping = repository.findOverlapping("room-1", JUNE_1.plusDays(2), JUNE_1.plusDays(5));
+
+        assertEquals(1, overlapping.size());
+        assertEquals("a", overlapping.get(0).getId());
+        assertTrue(repository.findOverlapping("room-9", JUNE_1, JUNE_1.plusDays(5)).isEmpty());
+        assertTrue(repository.existsOverlapping("room-1", JUNE_1.plusDays(2), JUNE_1.plusDays(5)));
+        assertFalse(repository.existsOverlapping("room-1", JUNE_1.plusDays(3), JUNE_1.plusDays(5)));
+        assertFalse(repository.existsOverlapping("room-9", JUNE_1, JUNE_1.plusDays(5)));
+    }
+
+    @Test
+    void emptyOrInvertedRange_matchesNothing() {
+        repository.save(booking("a", "room-1", "u", 0, 3));
+
+        assertTrue(repository.findInRange(JUNE_1.plusDays(1), JUNE_1.plusDays(1)).isEmpty());
+        assertTrue(repository.findInRange(JUNE_1.plusDays(30), JUNE_1).isEmpty());
+        assertTrue(repository.findOverlapping("room-1", JUNE_1.plusDays(30), JUNE_1).isEmpty());
+    }
+
+    @Test
+    void streamInRange_matchesFindInRange() {
+        for (int i = 0; i < 100; i++) {
+            repository.save(booking("b" + i, "room-" + (i % 7), "u", i, i + 4));
+        }
+
+        try (Stream<Booking> stream = repository.streamInRange(JUNE_1.plusDays(20), JUNE_1.plusDays(30))) {
+            assertEquals(repository.findInRange(JUNE_1.plusDays(20), JUNE_1.plusDays(30)).size(), stream.count());
+        }
+    }
+
+    @Test
+    void returnedBookings_areDetachedCopies() {
+        repository.save(booking("b1", "room-1", "user-1", 0, 2));
+
+        repository.findByRoomId("room-1").get(0).setRoomId("hijacked");
+
+        assertEquals("room-1", repository.findById("b1").orElseThrow().getRoomId());
+    }
+
+    @Test
+    void concurrentOverwrites_neverHideAnExistingBooking() throws Exception {
+        repository.save(booking("b1", "room-1", "user-1", 0, 2));
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> writer = executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < 20_000; i++) {
+                    repository.save(booking("b1", "room-1", "user-1", i % 2, 2 + i % 2));
+                }
+                running.set(false);
+            });
+            Future<Integer> reader = executor.submit(() -> {
+                started.await();
+                int misses = 0;
+                while (running.get()) {
+                    if (repository.findByRoomId("room-1").isEmpty()) {
+                        misses++;
+                    }
+                }
+                return misses;
+            });
+
+            writer.get();
+            assertEquals(0, reader.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentSaves_areAllIndexed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        repository.save(booking("t" + thread + "-" + i, "room-" + thread, "user-" + (i % 10), i % 60, i % 60 + 2));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(4000, repository.size());
+        assertEquals(1000, repository.findByRoomId("room-2").size());
+        assertEquals(400, repository.findByUserId("user-3").size());
+    }
+
+    private static Booking booking(String id, String roomId, String userId, int fromOffset, int toOffset) {
+        return new Booking(id, roomId, userId, JUNE_1.plusDays(fromOffset), JUNE_1.plusDays(toOffset), 200.0);
+    }
+}
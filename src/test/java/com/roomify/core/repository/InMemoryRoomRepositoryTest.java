@@ -0,0 +1,53 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Room;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRoomRepositoryTest {
+
+    private final InMemoryRoomRepository repository = new InMemoryRoomRepository();
+
+    @Test
+    void save_assignsId_andCopiesOnTheWayInAndOut() {
+        Room room = repository.save(new Room(null, "double", 2, 120.0));
+        room.setBasePrice(1.0);
+
+        assertNotNull(room.getId());
+        Room stored = repository.findById(room.getId()).orElseThrow();
+        assertEquals(120.0, stored.getBasePrice());
+        stored.setType("suite");
+        assertEquals("double", repository.findById(room.getId()).orElseThrow().getType());
+    }
+
+    @Test
+    void countByType_groupsRooms_andBucketsMissingTypes() {
+        repository.save(new Room("r1", "double", 2, 100));
+        repository.save(new Room("r2", "double", 2, 100));
+        repository.save(new Room("r3", "suite", 4, 300));
+        repository.save(new Room("r4", null, 1, 80));
+
+        assertEquals(Map.of("double", 2L, "suite", 1L, InMemoryRoomRepository.UNKNOWN_TYPE, 1L),
+                repository.countByType());
+        try (Stream<Room> rooms = repository.findAll()) {
+            assertEquals(4, rooms.count());
+        }
+    }
+
+    @Test
+    void findByIds_keepsRequestOrder_andSkipsUnknownIds() {
+        repository.save(new Room("r1", "double", 2, 100));
+        repository.save(new Room("r2", "suite", 4, 300));
+
+        List<Room> rooms = repository.findByIds(Arrays.asList("r2", "missing", null, "r1"));
+
+        assertEquals(List.of("r2", "r1"), rooms.stream().map(Room::getId).collect(Collectors.toList()));
+    }
+}
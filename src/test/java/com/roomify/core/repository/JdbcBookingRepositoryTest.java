@@ -0,0 +1,132 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcBookingRepositoryTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    private JdbcDataSource dataSource;
+    private JdbcBookingRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        repository = new JdbcBookingRepository(dataSource);
+        repository.createSchema();
+    }
+
+    @Test
+    void save_thenFindById_roundTrips() {
+        Booking saved = repository.save(booking(null, "room-1", 0, 3));
+
+        Booking found = repository.findById(saved.getId()).orElseThrow();
+        assertEquals("room-1", found.getRoomId());
+        assertEquals(JUNE_1, found.getFrom());
+        assertEquals(JUNE_1.plusDays(3), found.getTo());
+        assertEquals(300.0, found.getPrice());
+    }
+
+    @Test
+    void save_existingId_updatesRow() {
+        repository.save(booking("b1", "room-1", 0, 3));
+        repository.save(booking("b1", "room-2", 5, 6));
+
+        assertTrue(repository.findByRoomId("room-1").isEmpty());
+        assertEquals(1, repository.findByRoomId("room-2").size());
+    }
+
+    @Test
+    void saveAll_batchesInsertsAndUpdates() {
+        repository.save(booking("existing", "room-1", 0, 1));
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            bookings.add(booking("b" + i, "room-" + (i % 10), i % 300, i % 300 + 2));
+        }
+        bookings.add(booking("existing", "room-9", 40, 42));
+
+        repository.saveAll(bookings);
+
+        assertEquals(120, repository.findByRoomId("room-3").size());
+        assertEquals("room-9", repository.findById("existing").orElseThrow().getRoomId());
+        assertTrue(repository.findByRoomId("room-1").stream().noneMatch(b -> b.getId().equals("existing")));
+    }
+
+    @Test
+    void findOverlapping_usesHalfOpenRanges() {
+        repository.save(booking("before", "room-1", 0, 3));
+        repository.save(booking("overlap", "room-1", 4, 8));
+        repository.save(booking("after", "room-1", 10, 12));
+        repository.save(booking("other-room", "room-2", 4, 8));
+
+        List<Booking> overlapping = repository.findOverlapping("room-1", JUNE_1.plusDays(3), JUNE_1.plusDays(10));
+
+        assertEquals(1, overlapping.size());
+        assertEquals("overlap", overlapping.get(0).getId());
+        assertTrue(repository.existsOverlapping("room-1", JUNE_1.plusDays(7), JUNE_1.plusDays(9)));
+        assertFalse(repository.existsOverlapping("room-1", JUNE_1.plusDays(8), JUNE_1.plusDays(10)));
+    }
+
+    @Test
+    void existsOverlapping_isAnsweredFromTheIndex() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + JdbcBookingRepository.EXISTS_OVERLAPPING
+                     .replaceFirst("\\?", "'room-1'")
+                     .replaceFirst("\\?", "DATE '2025-05-01'")
+                     .replaceFirst("\\?", "DATE '2025-06-10'")
+                     .replaceFirst("\\?", "DATE '2025-06-01'"))) {
+            rs.next();
+            String plan = rs.getString(1).toUpperCase();
+            assertTrue(plan.contains("IDX_BOOKINGS_ROOM_DATES"), plan);
+        }
+    }
+
+    @Test
+    void streamInRange_readsOverlappingBookingsLazily() {
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            bookings.add(booking("b" + i, "room-" + (i % 50), i % 100, i % 100 + 3));
+        }
+        repository.saveAll(bookings);
+
+        long expected = repository.findInRange(JUNE_1.plusDays(30), JUNE_1.plusDays(60)).size();
+        try (Stream<Booking> stream = repository.streamInRange(JUNE_1.plusDays(30), JUNE_1.plusDays(60))) {
+            assertEquals(expected, stream.count());
+        }
+        assertEquals(32 * 25, expected);
+    }
+
+    @Test
+    void delete_removesRow() {
+        repository.save(booking("b1", "room-1", 0, 3));
+
+        repository.delete("b1");
+
+        assertTrue(repository.findById("b1").isEmpty());
+    }
+
+    @Test
+    void save_stayLongerThanLimit_throws() {
+        assertThrows(IllegalArgumentException.class, () -> repository.save(booking("b1", "room-1", 0, 400)));
+    }
+
+    private static Booking booking(String id, String roomId, int fromOffset, int toOffset) {
+        return new Booking(id, roomId, "user-1", JUNE_1.plusDays(fromOffset), JUNE_1.plusDays(toOffset), 100.0 * (toOffset - fromOffset));
+    }
+}
@@ -0,0 +1,174 @@
+package com.roomify.core.repository;
+
+import com.roomify.core.dto.Booking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalBookingRepositoryTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void save_assignsIdAndIsReadable() {
+        try (JournalBookingRepository repository = open(1000)) {
+            Booking saved = repository.save(booking(null, "room-1", 0));
+
+            assertNotNull(saved.getId());
+            assertEquals("room-1", repository.findById(saved.getId()).orElseThrow().getRoomId());
+            assertEquals(1, repository.findByRoomId("room-1").size());
+        }
+    }
+
+    @Test
+    void reopen_replaysJournal() {
+        try (JournalBookingRepository repository = open(1000)) {
+            repository.save(booking("b1", "room-1", 0));
+            repository.save(booking("b2", "room-1", 3));
+            repository.save(booking("b1", "room-2", 5));
+            repository.delete("b2");
+        }
+
+        try (JournalBookingRepository repository = open(1000)) {
+            assertEquals(1, repository.size());
+            assertTrue(repository.findByRoomId("room-1").isEmpty());
+            Booking b1 = repository.findById("b1").orElseThrow();
+            assertEquals("room-2", b1.getRoomId());
+            assertEquals(JUNE_1.plusDays(5), b1.getFrom());
+        }
+    }
+
+    @Test
+    void snapshot_dropsCoveredSegments_andRestoresState() throws IOException {
+        try (JournalBookingRepository repository = open(1000)) {
+            for (int i = 0; i < 50; i++) {
+                repository.save(booking("b" + i, "room-" + (i % 5), i));
+            }
+            repository.snapshot();
+            repository.save(booking("tail", "room-9", 1));
+            repository.delete("b0");
+        }
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.filter(p -> p.getFileName().toString().startsWith("journal-")).count());
+        }
+
+        try (JournalBookingRepository repository = open(1000)) {
+            assertEquals(50, repository.size());
+            assertTrue(repository.findById("b0").isEmpty());
+            assertTrue(repository.findById("tail").isPresent());
+            assertEquals(10, repository.findByRoomId("room-1").size());
+        }
+    }
+
+    @Test
+    void segmentRoll_keepsEveryRecord() {
+        try (JournalBookingRepository repository = new JournalBookingRepository(directory, 512, 1_000_000)) {
+            for (int i = 0; i < 100; i++) {
+                repository.save(booking("b" + i, "room-1", i));
+            }
+        }
+
+        try (JournalBookingRepository repository = new JournalBookingRepository(directory, 512, 1_000_000)) {
+            assertEquals(100, repository.size());
+        }
+    }
+
+    @Test
+    void tornTail_isIgnoredOnRecovery() throws IOException {
+        try (JournalBookingRepository repository = open(1000)) {
+            repository.save(booking("b1", "room-1", 0));
+            repository.save(booking("b2", "room-1", 2));
+        }
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(p -> p.getFileName().toString().startsWith("journal-")).findFirst().orElseThrow();
+        }
+        byte[] content = Files.readAllBytes(segment);
+        int secondRecordPayload = findLastNonZero(content) - 2;
+        content[secondRecordPayload] ^= 0x7f;
+        Files.write(segment, content);
+
+        try (JournalBookingRepository repository = open(1000)) {
+            assertTrue(repository.findById("b1").isPresent());
+            assertTrue(repository.findById("b2").isEmpty());
+            repository.save(booking("b3", "room-1", 4));
+        }
+
+        try (JournalBookingRepository repository = open(1000)) {
+            assertEquals(2, repository.size());
+            assertTrue(repository.findById("b3").isPresent());
+        }
+    }
+
+    @Test
+    void concurrentWriters_areAllDurable() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (JournalBookingRepository repository = open(100)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 250; i++) {
+                        repository.save(booking("t" + thread + "-" + i, "room-" + thread, i % 30));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        try (JournalBookingRepository repository = open(100)) {
+            assertEquals(2000, repository.size());
+            assertEquals(250, repository.findByRoomId("room-3").size());
+        }
+    }
+
+    @Test
+    void returnedBookings_areDetachedCopies() {
+        try (JournalBookingRepository repository = open(1000)) {
+            repository.save(booking("b1", "room-1", 0));
+
+            repository.findById("b1").orElseThrow().setRoomId("room-2");
+
+            assertEquals("room-1", repository.findById("b1").orElseThrow().getRoomId());
+        }
+    }
+
+    private JournalBookingRepository open(long snapshotInterval) {
+        return new JournalBookingRepository(directory, 64 * 1024, snapshotInterval);
+    }
+
+    private static Booking booking(String id, String roomId, int offsetDays) {
+        LocalDate from = JUNE_1.plusDays(offsetDays);
+        return new Booking(id, roomId, "user-1", from, from.plusDays(2), 250.0);
+    }
+
+    private static int findLastNonZero(byte[] content) {
+        for (int i = content.length - 1; i >= 0; i--) {
+            if (content[i] != 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
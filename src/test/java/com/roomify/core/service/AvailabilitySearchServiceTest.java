@@ -0,0 +1,95 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.dto.RoomQuote;
+import com.roomify.core.repository.InMemoryBookingRepository;
+import com.roomify.core.repository.InMemoryRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilitySearchServiceTest {
+
+    // a Monday two weeks out: no weekend rules, inside the advance-booking window
+    private static final LocalDate FROM = LocalDate.now().plusWeeks(2).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    private static final LocalDate TO = FROM.plusDays(2);
+
+    private final InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+    private final InMemoryBookingRepository bookings = new InMemoryBookingRepository();
+    private final PricingService pricingService = new PricingService(rooms);
+    private AvailabilitySearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        rooms.save(new Room("room-a", "double", 2, 150.0));
+        rooms.save(new Room("room-b", "double", 2, 100.0));
+        rooms.save(new Room("room-c", "single", 1, 80.0));
+        rooms.save(new Room("room-d", "double", 4, 120.0));
+        rooms.save(new Room("room-e", "double", 2, 100.0));
+        searchService = new AvailabilitySearchService(rooms, new AvailabilityService(bookings), pricingService);
+    }
+
+    @Test
+    void search_filtersByCapacityAndType_andSortsByPrice() {
+        RoomQuote.Page page = searchService.search(FROM, TO, 2, "DOUBLE", null, 10);
+
+        assertEquals(List.of("room-b", "room-e", "room-d", "room-a"), ids(page));
+        assertNull(page.nextCursor());
+        assertEquals(pricingService.calculatePrice("room-d", FROM, TO), page.rooms().get(2).price());
+    }
+
+    @Test
+    void search_skipsBookedRooms() {
+        bookings.save(new Booking("b1", "room-b", "user-1", FROM.plusDays(1), TO.plusDays(1), 200.0));
+        bookings.save(new Booking("b2", "room-e", "user-1", TO, TO.plusDays(2), 200.0));
+
+        RoomQuote.Page page = searchService.search(FROM, TO, 1, null, null, 10);
+
+        assertEquals(List.of("room-c", "room-e", "room-d", "room-a"), ids(page));
+    }
+
+    @Test
+    void search_pagesWithCursor_withoutRepeatsOrGaps() {
+        List<String> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            RoomQuote.Page page = searchService.search(FROM, TO, 1, null, cursor, 2);
+            assertTrue(page.rooms().size() <= 2);
+            seen.addAll(ids(page));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of("room-c", "room-b", "room-e", "room-d", "room-a"), seen);
+    }
+
+    @Test
+    void search_cursorSkipsRoomsAddedBeforeIt() {
+        RoomQuote.Page first = searchService.search(FROM, TO, 1, null, null, 2);
+        rooms.save(new Room("room-0", "single", 1, 50.0));
+
+        RoomQuote.Page second = searchService.search(FROM, TO, 1, null, first.nextCursor(), 2);
+
+        assertEquals(List.of("room-e", "room-d"), ids(second));
+    }
+
+    @Test
+    void search_rejectsInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(TO, FROM, 1, null, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(FROM, TO, 1, null, null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> searchService.search(FROM, TO, 1, null, null, AvailabilitySearchService.MAX_LIMIT + 1));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(FROM, TO, 1, null, "not-a-cursor", 10));
+    }
+
+    private static List<String> ids(RoomQuote.Page page) {
+        return page.rooms().stream().map(RoomQuote::roomId).toList();
+    }
+}
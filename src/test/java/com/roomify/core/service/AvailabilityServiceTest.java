@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -64,12 +65,7 @@ class AvailabilityServiceTest {
         LocalDate checkIn = LocalDate.now().plusDays(5);
         LocalDate checkOut = LocalDate.now().plusDays(7);
 
-        Booking existingBooking = new Booking();
-        existingBooking.setRoomId("room1");
-        existingBooking.setFrom(LocalDate.now().plusDays(4));
-        existingBooking.setTo(LocalDate.now().plusDays(6));
-
-        when(bookingRepository.findByRoomId("room1")).thenReturn(List.of(existingBooking));
+        when(bookingRepository.existsOverlapping("room1", checkIn, checkOut)).thenReturn(true);
 
         assertFalse(availabilityService.isAvailable("room1", checkIn, checkOut));
     }
@@ -79,14 +75,10 @@ class AvailabilityServiceTest {
         LocalDate checkIn = LocalDate.now().plusDays(10);
         LocalDate checkOut = LocalDate.now().plusDays(12);
 
-        Booking existingBooking = new Booking();
-        existingBooking.setRoomId("room1");
-        existingBooking.setFrom(LocalDate.now().plusDays(5));
-        existingBooking.setTo(LocalDate.now().plusDays(7));
-
-        when(bookingRepository.findByRoomId("room1")).thenReturn(List.of(existingBooking));
+        when(bookingRepository.existsOverlapping("room1", checkIn, checkOut)).thenReturn(false);
 
         assertTrue(availabilityService.isAvailable("room1", checkIn, checkOut));
+        verify(bookingRepository, never()).findOverlapping(any(), any(), any());
     }
 
     @Test
@@ -94,7 +86,7 @@ class AvailabilityServiceTest {
         LocalDate checkIn = LocalDate.now().plusDays(1);
         LocalDate checkOut = checkIn.plusDays(31); // 31 days > 30 day limit
 
-        when(bookingRepository.findByRoomId("room1")).thenReturn(Collections.emptyList());
+        when(bookingRepository.existsOverlapping(eq("room1"), any(), any())).thenReturn(false);
 
         assertFalse(availabilityService.isAvailable("room1", checkIn, checkOut));
     }
@@ -104,7 +96,7 @@ class AvailabilityServiceTest {
         LocalDate saturday = findNextSaturday();
         LocalDate sunday = saturday.plusDays(1);
 
-        when(bookingRepository.findByRoomId("suite-room")).thenReturn(Collections.emptyList());
+        when(bookingRepository.existsOverlapping(eq("suite-room"), any(), any())).thenReturn(false);
 
         assertFalse(availabilityService.isAvailable("suite-room", saturday, sunday));
     }
@@ -114,7 +106,7 @@ class AvailabilityServiceTest {
         LocalDate saturday = findNextSaturday();
         LocalDate monday = saturday.plusDays(2); // 2 nights
 
-        when(bookingRepository.findByRoomId("suite-room")).thenReturn(Collections.emptyList());
+        when(bookingRepository.existsOverlapping(eq("suite-room"), any(), any())).thenReturn(false);
 
         assertTrue(availabilityService.isAvailable("suite-room", saturday, monday));
     }
@@ -125,13 +117,8 @@ class AvailabilityServiceTest {
         LocalDate checkIn = LocalDate.now().plusDays(1);
         LocalDate checkOut = checkIn.plusDays(2);
 
-        Booking existingBooking = new Booking();
-        existingBooking.setRoomId("booked-room");
-        existingBooking.setFrom(checkIn);
-        existingBooking.setTo(checkOut);
-
-        when(bookingRepository.findByRoomId("available-room")).thenReturn(Collections.emptyList());
-        when(bookingRepository.findByRoomId("booked-room")).thenReturn(List.of(existingBooking));
+        when(bookingRepository.existsOverlapping(eq("available-room"), any(), any())).thenReturn(false);
+        when(bookingRepository.existsOverlapping(eq("booked-room"), any(), any())).thenReturn(true);
 
         Map<String, Boolean> result = availabilityService.checkMultipleRooms(roomIds, checkIn, checkOut);
 
@@ -148,4 +135,18 @@ class AvailabilityServiceTest {
         }
         return date;
     }
-}
\ No newline at end of file
+
+    @Test
+    void availableRooms_usesOneRangeQuery_andAppliesRoomRules() {
+        LocalDate from = LocalDate.now().plusDays(10);
+        LocalDate to = from.plusDays(2);
+        when(bookingRepository.streamInRange(from, to)).thenReturn(Stream.of(
+                new Booking("b1", "room-a", "user-1", from.plusDays(1), to, 100.0)));
+
+        Set<String> available = availabilityService.availableRooms(
+                List.of("room-a", "room-b", "room-maintenance-1"), from, to);
+
+        assertEquals(Set.of("room-b"), available);
+        verify(bookingRepository, never()).findOverlapping(anyString(), any(), any());
+    }
+}
@@ -3,7 +3,10 @@ package com.roomify.core.service;
 import com.roomify.core.dto.Booking;
 import com.roomify.core.dto.BookingRequest;
 import com.roomify.core.dto.PaymentResult;
+import com.roomify.core.exception.BulkheadFullException;
+import com.roomify.core.metrics.BookingMetrics;
 import com.roomify.core.repository.BookingRepository;
+import com.roomify.core.repository.InMemoryBookingRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,6 +14,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,6 +37,9 @@ class BookingServiceTest {
     @Mock DiscountService discountService;
     @Mock NotificationService notificationService;
     @Mock InvoiceService invoiceService;
+    @Mock CancellationPolicyService cancellationPolicyService;
+    @Mock BookingEventListener bookingEventListener;
+    @Mock BookingMetrics metrics;
 
     @InjectMocks BookingService bookingService;
 
@@ -49,6 +63,37 @@ class BookingServiceTest {
         verify(paymentService).charge("user1", 200.0);
         verify(bookingRepository).save(any(Booking.class));
         verify(notificationService).notifyBookingCreated("user1", "b1");
+        verify(bookingEventListener).onBookingSaved(null, result);
+    }
+
+    @Test
+    void createBooking_whenNotificationRejected_stillReturnsBooking() {
+        var req = new BookingRequest("room1","user1", LocalDate.now(), LocalDate.now().plusDays(2));
+        when(availabilityService.isAvailable("room1", req.from(), req.to())).thenReturn(true);
+        when(pricingService.calculatePrice("room1", req.from(), req.to())).thenReturn(200.0);
+        when(discountService.applyDiscount("user1", 200.0)).thenReturn(200.0);
+        when(paymentService.charge(any(), anyDouble())).thenReturn(new PaymentResult(true, "tx123"));
+        when(bookingRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
+        doThrow(new BulkheadFullException("notification service is busy"))
+                .when(notificationService).notifyBookingCreated(any(), any());
+
+        assertNotNull(bookingService.createBooking(req));
+        verify(paymentService, never()).refund(any(), anyDouble());
+    }
+
+    @Test
+    void createBooking_whenSaveRejected_refundsCharge() {
+        var req = new BookingRequest("room1","user1", LocalDate.now(), LocalDate.now().plusDays(2));
+        when(availabilityService.isAvailable("room1", req.from(), req.to())).thenReturn(true);
+        when(pricingService.calculatePrice("room1", req.from(), req.to())).thenReturn(200.0);
+        when(discountService.applyDiscount("user1", 200.0)).thenReturn(200.0);
+        when(paymentService.charge(any(), anyDouble())).thenReturn(new PaymentResult(true, "tx123"));
+        when(bookingRepository.save(any())).thenThrow(new BulkheadFullException("booking repository is busy"));
+        when(paymentService.refund("user1", 200.0)).thenReturn(new PaymentResult(true, "tx-r"));
+
+        assertThrows(BulkheadFullException.class, () -> bookingService.createBooking(req));
+        verify(paymentService).refund("user1", 200.0);
+        verify(bookingEventListener, never()).onBookingSaved(any(), any());
     }
 
     @Test
@@ -58,6 +103,9 @@ class BookingServiceTest {
 
         assertThrows(IllegalArgumentException.class, () -> bookingService.createBooking(req));
         verify(paymentService, never()).charge(any(), anyDouble());
+        verify(metrics).lap(eq(BookingMetrics.Stage.AVAILABILITY), anyLong());
+        verify(metrics).rejected(BookingMetrics.Rejection.UNAVAILABLE);
+        verify(metrics, never()).completed(anyLong());
     }
 
     @Test
@@ -83,10 +131,156 @@ class BookingServiceTest {
 
     @Test
     void cancelBooking_invokesRepositoryDelete() {
-        doNothing().when(bookingRepository).delete("b123");
+        var booking = new Booking("b123", "r1", "u1", LocalDate.now().plusDays(1), LocalDate.now().plusDays(3), 200.0);
+        when(bookingRepository.findById("b123")).thenReturn(Optional.of(booking));
+        when(bookingRepository.delete("b123")).thenReturn(true);
 
         bookingService.cancelBooking("b123");
 
         verify(bookingRepository).delete("b123");
+        verify(bookingRepository, never()).findByRoomId(any());
+    }
+
+    @Test
+    void cancelBooking_withRefund_refundsAndNotifies() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now().plusDays(20), LocalDate.now().plusDays(22), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(200.0);
+        when(bookingRepository.delete("b1")).thenReturn(true);
+        when(paymentService.refund("u1", 200.0)).thenReturn(new PaymentResult(true, "tx-r1"));
+
+        double refund = bookingService.cancelBooking("b1");
+
+        assertEquals(200.0, refund);
+        verify(bookingRepository).delete("b1");
+        verify(notificationService).notifyBookingCancelled("u1", "b1", 200.0);
+        verify(bookingEventListener).onBookingCancelled(booking);
+    }
+
+    @Test
+    void cancelBooking_withoutRefund_doesNotCallPayment() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now(), LocalDate.now().plusDays(2), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(0.0);
+        when(bookingRepository.delete("b1")).thenReturn(true);
+
+        assertEquals(0.0, bookingService.cancelBooking("b1"));
+        verify(paymentService, never()).refund(any(), anyDouble());
+        verify(bookingRepository).delete("b1");
+    }
+
+    @Test
+    void cancelBooking_whenRefundFails_restoresBooking() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now().plusDays(20), LocalDate.now().plusDays(22), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(200.0);
+        when(bookingRepository.delete("b1")).thenReturn(true);
+        when(paymentService.refund("u1", 200.0)).thenReturn(new PaymentResult(false, null));
+
+        assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking("b1"));
+        verify(bookingRepository).save(booking);
+        verify(bookingEventListener, never()).onBookingCancelled(any());
+        verify(notificationService, never()).notifyBookingCancelled(any(), any(), anyDouble());
+    }
+
+    @Test
+    void cancelBooking_whenRefundFails_andNightsRebooked_keepsBookingCancelled() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now().plusDays(20), LocalDate.now().plusDays(22), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(200.0);
+        when(bookingRepository.delete("b1")).thenReturn(true);
+        when(paymentService.refund("u1", 200.0)).thenReturn(new PaymentResult(false, null));
+        when(bookingRepository.existsOverlapping("r1", booking.getFrom(), booking.getTo())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking("b1"));
+        verify(bookingRepository, never()).save(any());
+        verify(bookingEventListener).onBookingCancelled(booking);
+    }
+
+    @Test
+    void cancelBooking_whenRestoreFails_keepsRefundErrorAndPublishesCancel() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now().plusDays(20), LocalDate.now().plusDays(22), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(200.0);
+        when(bookingRepository.delete("b1")).thenReturn(true);
+        when(paymentService.refund("u1", 200.0)).thenThrow(new IllegalStateException("gateway down"));
+        when(bookingRepository.save(booking)).thenThrow(new IllegalStateException("store down"));
+
+        var e = assertThrows(IllegalStateException.class, () -> bookingService.cancelBooking("b1"));
+
+        assertEquals("gateway down", e.getMessage());
+        assertEquals("store down", e.getSuppressed()[0].getMessage());
+        verify(bookingEventListener).onBookingCancelled(booking);
+    }
+
+    @Test
+    void cancelBooking_whenAlreadyRemoved_doesNotRefund() {
+        var booking = new Booking("b1", "r1", "u1", LocalDate.now().plusDays(20), LocalDate.now().plusDays(22), 200.0);
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking));
+        when(cancellationPolicyService.refundFor(booking)).thenReturn(200.0);
+        when(bookingRepository.delete("b1")).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.cancelBooking("b1"));
+        verify(paymentService, never()).refund(any(), anyDouble());
+    }
+
+    @Test
+    void cancelBooking_concurrentCancels_refundOnce() throws Exception {
+        InMemoryBookingRepository repository = new InMemoryBookingRepository();
+        AtomicInteger refunds = new AtomicInteger();
+        PaymentService payments = new PaymentService() {
+            @Override
+            public PaymentResult charge(String userId, double amount) {
+                return new PaymentResult(true, "tx");
+            }
+
+            @Override
+            public PaymentResult refund(String userId, double amount) {
+                refunds.incrementAndGet();
+                return new PaymentResult(true, "tx-r");
+            }
+        };
+        BookingService service = new BookingService(repository, availabilityService, payments, bookingValidator,
+                pricingService, discountService, notificationService, invoiceService,
+                new CancellationPolicyService(repository, null), BookingEventListener.NONE);
+        int cancels = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(cancels);
+        try {
+            for (int round = 0; round < 50; round++) {
+                String id = "b" + round;
+                repository.save(new Booking(id, "r1", "u1", LocalDate.now().plusDays(40),
+                        LocalDate.now().plusDays(42), 200.0));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < cancels; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        try {
+                            service.cancelBooking(id);
+                            return true;
+                        } catch (IllegalArgumentException e) {
+                            return false;
+                        }
+                    }));
+                }
+                start.countDown();
+                int succeeded = 0;
+                for (Future<Boolean> result : results) {
+                    succeeded += result.get() ? 1 : 0;
+                }
+                assertEquals(1, succeeded);
+                assertEquals(round + 1, refunds.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancelBooking_whenMissing_throws() {
+        when(bookingRepository.findById("nope")).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> bookingService.cancelBooking("nope"));
+        verify(bookingRepository, never()).delete(any());
     }
 }
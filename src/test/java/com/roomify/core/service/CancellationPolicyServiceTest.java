@@ -1,9 +1,19 @@
 package com.roomify.core.service;
 
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.Room;
+import com.roomify.core.repository.BookingRepository;
+import com.roomify.core.repository.RoomRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 class CancellationPolicyServiceTest {
 
@@ -40,4 +50,55 @@ class CancellationPolicyServiceTest {
 
         assertEquals(refund1, refund2);
     }
+
+    @Test
+    void refundFor_standardRoom_followsTiers() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+
+        assertEquals(400.0, cancellationPolicyService.refundFor(booking("room-1", today.plusDays(14)), today));
+        assertEquals(300.0, cancellationPolicyService.refundFor(booking("room-1", today.plusDays(7)), today));
+        assertEquals(200.0, cancellationPolicyService.refundFor(booking("room-1", today.plusDays(2)), today));
+        assertEquals(0.0, cancellationPolicyService.refundFor(booking("room-1", today.plusDays(1)), today));
+        assertEquals(0.0, cancellationPolicyService.refundFor(booking("room-1", today.minusDays(1)), today));
+    }
+
+    @Test
+    void refundFor_premiumRoom_isStricter() {
+        LocalDate today = LocalDate.of(2025, 6, 1);
+
+        assertEquals(400.0, cancellationPolicyService.refundFor(booking("premium-suite", today.plusDays(30)), today));
+        assertEquals(200.0, cancellationPolicyService.refundFor(booking("premium-suite", today.plusDays(14)), today));
+        assertEquals(100.0, cancellationPolicyService.refundFor(booking("premium-suite", today.plusDays(7)), today));
+        assertEquals(0.0, cancellationPolicyService.refundFor(booking("premium-suite", today.plusDays(3)), today));
+    }
+
+    @Test
+    void refundFor_usesRoomTypeFromRepository() {
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        Clock clock = Clock.fixed(LocalDate.of(2025, 6, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        CancellationPolicyService service = new CancellationPolicyService(null, roomRepository, clock);
+
+        when(roomRepository.findById("r7")).thenReturn(Optional.of(new Room("r7", "suite", 2, 300.0)));
+
+        assertEquals(200.0, service.refundFor(booking("r7", LocalDate.of(2025, 6, 15))));
+    }
+
+    @Test
+    void refundAmount_withRepository_looksUpBooking() {
+        BookingRepository bookingRepository = mock(BookingRepository.class);
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        Clock clock = Clock.fixed(LocalDate.of(2025, 6, 1).atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        CancellationPolicyService service = new CancellationPolicyService(bookingRepository, roomRepository, clock);
+
+        when(bookingRepository.findById("b1")).thenReturn(Optional.of(booking("r7", LocalDate.of(2025, 6, 15))));
+        when(bookingRepository.findById("missing")).thenReturn(Optional.empty());
+        when(roomRepository.findById("r7")).thenReturn(Optional.of(new Room("r7", "double", 2, 300.0)));
+
+        assertEquals(400.0, service.refundAmount("b1"));
+        assertEquals(0.0, service.refundAmount("missing"));
+    }
+
+    private Booking booking(String roomId, LocalDate checkIn) {
+        return new Booking("b1", roomId, "u1", checkIn, checkIn.plusDays(2), 400.0);
+    }
 }
@@ -0,0 +1,135 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.RangeMetrics;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DailyAggregateStoreTest {
+
+    private static final LocalDate JUNE_1 = LocalDate.of(2025, 6, 1);
+
+    private final DailyAggregateStore store = new DailyAggregateStore(JUNE_1.minusYears(1), JUNE_1.plusYears(1));
+
+    @Test
+    void metrics_spreadRevenueOverNights_andCountCheckIns() {
+        store.onBookingSaved(new Booking("b1", "room-1", "u1", JUNE_1, JUNE_1.plusDays(4), 400.0));
+        store.onBookingSaved(new Booking("b2", "room-2", "u2", JUNE_1.plusDays(2), JUNE_1.plusDays(3), 150.0));
+
+        RangeMetrics all = store.metrics(JUNE_1.plusDays(2), JUNE_1.plusDays(10));
+        assertEquals(200.0 + 150.0, all.revenue(), 1e-9);
+        assertEquals(3, all.roomNights());
+        assertEquals(1, all.bookings());
+
+        RangeMetrics room1 = store.metrics("room-1", JUNE_1, JUNE_1.plusDays(1));
+        assertEquals(100.0, room1.revenue(), 1e-9);
+        assertEquals(1, room1.roomNights());
+        assertEquals(1, room1.bookings());
+
+        assertEquals(0, store.metrics("room-9", JUNE_1, JUNE_1.plusDays(30)).roomNights());
+        assertEquals(Set.of("room-1", "room-2"), store.roomIds());
+    }
+
+    @Test
+    void resaveAndCancel_replaceAndRemoveTheEarlierContribution() {
+        store.onBookingSaved(new Booking("b1", "room-1", "u1", JUNE_1, JUNE_1.plusDays(4), 400.0));
+        store.onBookingSaved(new Booking("b1", "room-2", "u1", JUNE_1.plusDays(1), JUNE_1.plusDays(2), 90.0));
+
+        assertEquals(0, store.metrics("room-1", JUNE_1, JUNE_1.plusDays(30)).roomNights());
+        assertEquals(Set.of("room-2"), store.roomIds());
+        assertEquals(90.0, store.metrics(JUNE_1, JUNE_1.plusDays(30)).revenue(), 1e-9);
+
+        store.onBookingCancelled(new Booking("b1", null, null, null, null, 0));
+
+        RangeMetrics all = store.metrics(JUNE_1, JUNE_1.plusDays(30));
+        assertEquals(0.0, all.revenue(), 1e-9);
+        assertEquals(0, all.roomNights());
+        assertEquals(0, all.bookings());
+    }
+
+    @Test
+    void bookingsCrossingTheWindow_contributeOnlyTheirNightsInside() {
+        LocalDate end = JUNE_1.plusYears(1);
+        LocalDate start = JUNE_1.minusYears(1);
+        store.onBookingSaved(new Booking("b1", "room-1", "u1", end.minusDays(1), end.plusDays(3), 400.0));
+        store.onBookingSaved(new Booking("b2", "room-2", "u1", start.minusDays(2), start.plusDays(2), 400.0));
+        store.onBookingSaved(new Booking("b3", "room-3", "u1", end.plusDays(10), end.plusDays(12), 200.0));
+
+        RangeMetrics all = store.metrics(start.minusYears(10), end.plusYears(10));
+        assertEquals(100.0 + 200.0, all.revenue(), 1e-9);
+        assertEquals(3, all.roomNights());
+        assertEquals(1, all.bookings());
+        assertEquals(Set.of("room-1", "room-2"), store.roomIds());
+        assertTrue(store.canAnswer(start, end));
+        assertFalse(store.canAnswer(start.minusDays(1), end));
+
+        store.onBookingCancelled(new Booking("b1", null, null, null, null, 0));
+        assertEquals(0, store.metrics("room-1", start, end).roomNights());
+    }
+
+    @Test
+    void load_keepsChangesMadeByEventsWhileItRuns() {
+        Booking kept = new Booking("b1", "room-1", "u1", JUNE_1, JUNE_1.plusDays(2), 200.0);
+        Booking cancelled = new Booking("b2", "room-2", "u1", JUNE_1, JUNE_1.plusDays(1), 100.0);
+        Booking moved = new Booking("b3", "room-3", "u1", JUNE_1, JUNE_1.plusDays(1), 100.0);
+
+        // the events land after the stream was read but before it reaches those bookings
+        store.load(Stream.of(kept, cancelled, moved).peek(booking -> {
+            if (booking == kept) {
+                assertFalse(store.canAnswer(JUNE_1, JUNE_1.plusDays(1)));
+                store.onBookingCancelled(cancelled);
+                store.onBookingSaved(new Booking("b3", "room-1", "u1", JUNE_1.plusDays(5), JUNE_1.plusDays(6), 50.0));
+            }
+        }));
+
+        assertTrue(store.canAnswer(JUNE_1, JUNE_1.plusDays(1)));
+        assertEquals(Set.of("room-1"), store.roomIds());
+        RangeMetrics all = store.metrics(JUNE_1, JUNE_1.plusDays(30));
+        assertEquals(250.0, all.revenue(), 1e-9);
+        assertEquals(3, all.roomNights());
+        assertEquals(2, all.bookings());
+    }
+
+    @Test
+    void metrics_matchABruteForceScan() {
+        Random random = new Random(7);
+        Booking[] bookings = new Booking[300];
+        for (int i = 0; i < bookings.length; i++) {
+            LocalDate from = JUNE_1.plusDays(random.nextInt(120));
+            bookings[i] = new Booking("b" + i, "room-" + random.nextInt(4), "u", from,
+                    from.plusDays(1 + random.nextInt(10)), 100 + random.nextInt(900));
+        }
+        store.load(Stream.of(bookings));
+
+        for (int q = 0; q < 100; q++) {
+            LocalDate from = JUNE_1.plusDays(random.nextInt(140) - 10);
+            LocalDate to = from.plusDays(1 + random.nextInt(60));
+            double revenue = 0;
+            long nights = 0;
+            long checkIns = 0;
+            for (Booking booking : bookings) {
+                if (!booking.getFrom().isBefore(from) && booking.getFrom().isBefore(to)) {
+                    checkIns++;
+                }
+                long stay = booking.getTo().toEpochDay() - booking.getFrom().toEpochDay();
+                for (LocalDate day = booking.getFrom(); day.isBefore(booking.getTo()); day = day.plusDays(1)) {
+                    if (!day.isBefore(from) && day.isBefore(to)) {
+                        nights++;
+                        revenue += booking.getPrice() / stay;
+                    }
+                }
+            }
+
+            RangeMetrics metrics = store.metrics(from, to);
+            assertEquals(revenue, metrics.revenue(), 1e-6);
+            assertEquals(nights, metrics.roomNights());
+            assertEquals(checkIns, metrics.bookings());
+        }
+    }
+}
@@ -9,6 +9,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -172,4 +174,19 @@ class PricingServiceTest {
 
         assertEquals(280.0, totalPrice);
     }
+
+    @Test
+    void calculatePrices_matchesCalculatePrice_perRoom() {
+        Room standard = new Room("standard-1", "double", 2, 120.0);
+        Room suite = new Room("suite-1", "suite", 4, 300.0);
+        when(roomRepository.findById("standard-1")).thenReturn(Optional.of(standard));
+        when(roomRepository.findById("suite-1")).thenReturn(Optional.of(suite));
+        LocalDate checkIn = LocalDate.now().plusDays(40);
+        LocalDate checkOut = checkIn.plusDays(8);
+
+        Map<String, Double> prices = pricingService.calculatePrices(List.of(standard, suite), checkIn, checkOut);
+
+        assertEquals(pricingService.calculatePrice("standard-1", checkIn, checkOut), prices.get("standard-1"));
+        assertEquals(pricingService.calculatePrice("suite-1", checkIn, checkOut), prices.get("suite-1"));
+    }
 }
@@ -0,0 +1,120 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.Booking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReportCacheTest {
+
+    @Mock
+    private ReportService reportService;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+    private ReportCache reportCache;
+
+    @BeforeEach
+    void setUp() {
+        reportCache = new ReportCache(reportService, clock);
+    }
+
+    @Test
+    void monthlyReport_isRenderedOnce_untilABookingTouchesTheMonth() {
+        when(reportService.monthlyReport(6, 2025)).thenReturn("first", "second");
+        String etag = reportCache.etag(ReportCache.Kind.MONTHLY, 6, 2025, "text");
+
+        ReportCache.CachedReport first = reportCache.monthlyReport(6, 2025);
+        assertSame(first, reportCache.monthlyReport(6, 2025));
+        assertEquals(etag, first.etag());
+        verify(reportService, times(1)).monthlyReport(6, 2025);
+
+        // a stay in May and June dirties both months but not July
+        String julyEtag = reportCache.etag(ReportCache.Kind.MONTHLY, 7, 2025, "text");
+        reportCache.onBookingSaved(new Booking("b1", "room-1", "user-1",
+                LocalDate.of(2025, 5, 30), LocalDate.of(2025, 6, 2), 300.0));
+
+        assertNotEquals(etag, reportCache.etag(ReportCache.Kind.MONTHLY, 6, 2025, "text"));
+        assertNotEquals(etag.replace("text", "csv"), reportCache.etag(ReportCache.Kind.MONTHLY, 6, 2025, "csv"));
+        assertEquals(julyEtag, reportCache.etag(ReportCache.Kind.MONTHLY, 7, 2025, "text"));
+        assertEquals("second", reportCache.monthlyReport(6, 2025).body());
+        assertThrows(IllegalArgumentException.class, () -> reportCache.etag(ReportCache.Kind.MONTHLY, 13, 2025, "text"));
+    }
+
+    @Test
+    void movedBooking_dirtiesTheMonthsItLeft() {
+        Booking inMarch = new Booking("b1", "room-1", "user-1",
+                LocalDate.of(2025, 3, 10), LocalDate.of(2025, 3, 12), 200.0);
+        reportCache.onBookingSaved(null, inMarch);
+        String march = reportCache.etag(ReportCache.Kind.MONTHLY, 3, 2025, "text");
+        String april = reportCache.etag(ReportCache.Kind.MONTHLY, 4, 2025, "text");
+        String may = reportCache.etag(ReportCache.Kind.MONTHLY, 5, 2025, "text");
+
+        reportCache.onBookingSaved(inMarch, new Booking("b1", "room-1", "user-1",
+                LocalDate.of(2025, 4, 10), LocalDate.of(2025, 4, 12), 200.0));
+
+        assertNotEquals(march, reportCache.etag(ReportCache.Kind.MONTHLY, 3, 2025, "text"));
+        assertNotEquals(april, reportCache.etag(ReportCache.Kind.MONTHLY, 4, 2025, "text"));
+        assertEquals(may, reportCache.etag(ReportCache.Kind.MONTHLY, 5, 2025, "text"));
+        verify(reportService, times(2)).invalidateMonth(YearMonth.of(2025, 3));
+        verify(reportService).invalidateMonth(YearMonth.of(2025, 4));
+        verify(reportService, never()).invalidateClosedMonths();
+    }
+
+    @Test
+    void cancellationWithoutDates_dirtiesEveryMonth() {
+        String march = reportCache.etag(ReportCache.Kind.MONTHLY, 3, 2025, "text");
+
+        reportCache.onBookingCancelled(new Booking("b1", null, null, null, null, 0));
+
+        assertNotEquals(march, reportCache.etag(ReportCache.Kind.MONTHLY, 3, 2025, "text"));
+        verify(reportService).invalidateClosedMonths();
+    }
+
+    @Test
+    void invalidateAll_dirtiesEveryMonth() {
+        when(reportService.occupancyReport(3, 2025)).thenReturn("occupancy");
+        reportCache.occupancyReport(3, 2025);
+        assertTrue(reportCache.isCurrent(ReportCache.Kind.OCCUPANCY, YearMonth.of(2025, 3)));
+
+        reportCache.invalidateAll();
+
+        assertFalse(reportCache.isCurrent(ReportCache.Kind.OCCUPANCY, YearMonth.of(2025, 3)));
+        verify(reportService).invalidateClosedMonths();
+    }
+
+    @Test
+    void scheduler_precomputesStandardReports_andOnlyRerendersStaleOnes() {
+        when(reportService.monthlyReport(anyInt(), eq(2025))).thenReturn("monthly");
+        when(reportService.occupancyReport(anyInt(), eq(2025))).thenReturn("occupancy");
+        ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        ReportPrecomputeScheduler scheduler = new ReportPrecomputeScheduler(reportCache, clock, executor,
+                LocalTime.of(2, 0), Duration.ofMinutes(1));
+
+        assertEquals(4, scheduler.precompute());
+        assertEquals(0, scheduler.precompute());
+        reportCache.onBookingCancelled(new Booking("b1", "room-1", "user-1",
+                LocalDate.of(2025, 6, 3), LocalDate.of(2025, 6, 5), 200.0));
+        assertEquals(2, scheduler.precompute());
+
+        verify(reportService, times(2)).monthlyReport(6, 2025);
+        verify(reportService, times(1)).monthlyReport(5, 2025);
+        assertEquals(Duration.ofHours(16), scheduler.untilNextOffPeak());
+        scheduler.close();
+        verifyNoInteractions(executor);
+    }
+}
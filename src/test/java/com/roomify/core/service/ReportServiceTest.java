@@ -1,5 +1,12 @@
 package com.roomify.core.service;
 
+import com.roomify.core.dto.Booking;
+import com.roomify.core.dto.CustomerEstimate;
+import com.roomify.core.dto.MonthlyMetrics;
+import com.roomify.core.dto.RangeMetrics;
+import com.roomify.core.dto.Room;
+import com.roomify.core.dto.RoomPerformance;
+import com.roomify.core.report.ReportFormat;
 import com.roomify.core.repository.BookingRepository;
 import com.roomify.core.repository.RoomRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ReportServiceTest {
@@ -56,14 +73,17 @@ class ReportServiceTest {
 
     @Test
     void getMonthlyMetrics_returnsCorrectMetrics() {
-        Map<String, Object> metrics = reportService.getMonthlyMetrics(6, 2025);
+        when(roomRepository.countByType()).thenReturn(Map.of("double", 3L, "suite", 2L));
+
+        MonthlyMetrics metrics = reportService.getMonthlyMetrics(6, 2025);
 
         assertNotNull(metrics);
-        assertTrue(metrics.containsKey("totalRevenue"));
-        assertTrue(metrics.containsKey("totalBookings"));
-        assertTrue(metrics.containsKey("averageBookingValue"));
-        assertTrue(metrics.containsKey("occupancyRate"));
-        assertTrue(metrics.containsKey("uniqueCustomers"));
+        assertEquals(2025, metrics.year());
+        assertEquals(6, metrics.month());
+        assertEquals(150, metrics.totalRoomNights());
+        assertEquals(0, metrics.totalBookings());
+        assertEquals(0.0, metrics.averageBookingValue());
+        assertEquals(0.0, metrics.occupancyRate());
     }
 
     @Test
@@ -71,8 +91,8 @@ class ReportServiceTest {
         String report = reportService.roomPerformanceReport("room-1", 6, 2025);
 
         assertNotNull(report);
-        assertTrue(report.contains("Room Performance Report: room-1"));
-        assertTrue(report.contains("June 2025"));
+        assertTrue(report.contains("ROOMIFY ROOM PERFORMANCE REPORT - room-1 - June 2025"));
+        assertTrue(report.contains("No bookings found for this room in the specified period."));
     }
 
     @Test
@@ -111,4 +131,263 @@ class ReportServiceTest {
         assertNotNull(report);
         assertTrue(report.contains("January 2025"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void getMonthlyMetrics_readsRepository_andClipsStaysToTheMonth() {
+        LocalDate june1 = LocalDate.of(2025, 6, 1);
+        LocalDate july1 = LocalDate.of(2025, 7, 1);
+        when(bookingRepository.streamInRange(june1, july1)).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 5, 30), LocalDate.of(2025, 6, 3), 400.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12), 300.0),
+                new Booking("b3", "room-1", "user-1", LocalDate.of(2025, 6, 29), LocalDate.of(2025, 7, 3), 800.0)));
+
+        MonthlyMetrics metrics = reportService.getMonthlyMetrics(6, 2025);
+
+        assertEquals(3, metrics.totalBookings());
+        assertEquals(200.0 + 300.0 + 400.0, metrics.totalRevenue(), 0.001);
+        assertEquals(2 + 2 + 2, metrics.bookedRoomNights());
+        assertEquals(2, metrics.uniqueCustomers());
+    }
+
+    @Test
+    void roomPerformanceReport_onlyCountsTheRequestedRoom() {
+        when(bookingRepository.streamInRange(any(), any())).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4), 300.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12), 200.0)));
+
+        String report = reportService.roomPerformanceReport("room-1", 6, 2025);
+
+        assertTrue(report.contains("Total Bookings: 1"));
+        assertTrue(report.contains("Total Nights Booked: 3"));
+        assertTrue(report.contains("Occupancy Rate: 10.0%"));
+        assertTrue(report.contains("Average Booking Value: $300.00"));
+    }
+
+    @Test
+    void monthlyReport_computesEverySectionFromOnePass() {
+        when(bookingRepository.streamInRange(any(), any())).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 4), 300.0),
+                new Booking("b2", "room-2", "user-1", LocalDate.of(2025, 6, 3), LocalDate.of(2025, 6, 4), 100.0),
+                new Booking("b3", "room-3", "user-2", LocalDate.of(2025, 6, 3), LocalDate.of(2025, 6, 8), 1000.0)));
+
+        String report = reportService.monthlyReport(6, 2025);
+
+        assertTrue(report.contains("Total Revenue: $1400.00"));
+        assertTrue(report.contains("Shortest Stay: 1\n"));
+        assertTrue(report.contains("Longest Stay: 5\n"));
+        assertTrue(report.contains("Peak Occupancy Day: 2025-06-03\nPeak Rooms Occupied: 3\n"));
+        assertTrue(report.contains(String.format("%-15s %10d %12s", "user-2", 1, "$1000.00")));
+        assertTrue(report.contains(String.format("%-15s %10d %12s", "user-1", 2, "$400.00")));
+        assertTrue(report.indexOf("user-2") < report.indexOf("user-1", report.indexOf("TOP CUSTOMERS")));
+        // room rows are ranked by revenue, not in hash order
+        assertTrue(report.indexOf("ROOM PERFORMANCE") < report.indexOf("room-3"));
+        assertTrue(report.indexOf("room-3") < report.indexOf("room-1"));
+        assertTrue(report.indexOf("room-1") < report.indexOf("room-2"));
+        assertTrue(report.contains(String.format("%-10s %5d %10s", "2025-06-03", 3, "$400.00")));
+        assertTrue(report.contains(String.format("%-10s %5d %10s", "2025-06-07", 1, "$200.00")));
+        assertTrue(report.contains(String.format("%-10s %5d %10s", "2025-06-08", 0, "$0.00")));
+    }
+
+    @Test
+    void yearlyReport_computesClosedMonthsOnce_andCurrentMonthEveryTime() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        reportService = new ReportService(bookingRepository, roomRepository, clock);
+        when(bookingRepository.streamInRange(any(), any())).thenAnswer(invocation -> Stream.of(
+                new Booking("b1", "room-1", "user-1", invocation.getArgument(0),
+                        ((LocalDate) invocation.getArgument(0)).plusDays(2), 200.0)));
+
+        String first = reportService.yearlyReport(2025);
+        String second = reportService.yearlyReport(2025);
+
+        assertEquals(first, second);
+        assertTrue(first.contains(String.format("%-10s %10d %12s", "TOTAL", 12, "$2400.00")));
+        verify(bookingRepository, times(1)).streamInRange(LocalDate.of(2025, 5, 1), LocalDate.of(2025, 6, 1));
+        verify(bookingRepository, times(2)).streamInRange(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 1));
+        verify(bookingRepository, times(2)).streamInRange(LocalDate.of(2025, 12, 1), LocalDate.of(2026, 1, 1));
+    }
+
+    @Test
+    void multiYearReport_foldsMonthsIntoYears() {
+        Clock clock = Clock.fixed(Instant.parse("2026-01-15T10:00:00Z"), ZoneOffset.UTC);
+        reportService = new ReportService(bookingRepository, roomRepository, clock);
+        when(bookingRepository.streamInRange(any(), any())).thenAnswer(invocation -> Stream.of(
+                new Booking("b1", "room-1", "user-1", invocation.getArgument(0),
+                        ((LocalDate) invocation.getArgument(0)).plusDays(1), 100.0)));
+
+        String report = reportService.multiYearReport(2024, 2025);
+
+        assertTrue(report.contains(String.format("%-10s %10d %12s", "2024", 12, "$1200.00")));
+        assertTrue(report.contains(String.format("%-10s %10d %12s", "2025", 12, "$1200.00")));
+        assertTrue(report.contains(String.format("%-10s %10d %12s", "TOTAL", 24, "$2400.00")));
+        assertTrue(reportService.multiYearReport(2025, 2024).contains("ERROR"));
+    }
+
+    @Test
+    void closedMonthRollups_areDroppedOnInvalidation_andBounded() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        reportService = new ReportService(bookingRepository, roomRepository, clock);
+        when(bookingRepository.streamInRange(any(), any())).thenAnswer(invocation -> Stream.empty());
+        YearMonth march = YearMonth.of(2025, 3);
+
+        reportService.monthlyRollup(march);
+        reportService.monthlyRollup(march);
+        reportService.invalidateMonth(march);
+        reportService.monthlyRollup(march);
+
+        verify(bookingRepository, times(2)).streamInRange(march.atDay(1), LocalDate.of(2025, 4, 1));
+        reportService.invalidateClosedMonths();
+        assertEquals(0, reportService.cachedMonths());
+
+        reportService.monthlyMetrics(YearMonth.of(2000, 1), YearMonth.of(2024, 12));
+        assertTrue(reportService.cachedMonths() <= 240);
+    }
+
+    @Test
+    void trailingTwelveMonthsReport_endsWithTheCurrentMonth() {
+        Clock clock = Clock.fixed(Instant.parse("2025-03-10T10:00:00Z"), ZoneOffset.UTC);
+        reportService = new ReportService(bookingRepository, roomRepository, clock);
+
+        String report = reportService.trailingTwelveMonthsReport();
+
+        assertTrue(report.contains("2024-04 to 2025-03"));
+        assertTrue(report.indexOf("2024-04") < report.lastIndexOf("2025-03"));
+        assertFalse(report.contains(String.format("%-10s", "2024-03") + " "));
+    }
+
+    @Test
+    void rangeMetrics_withoutAggregates_scansAndClipsTheRange() {
+        LocalDate from = LocalDate.of(2025, 6, 10);
+        LocalDate to = LocalDate.of(2025, 6, 20);
+        when(bookingRepository.streamInRange(from, to)).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 8), LocalDate.of(2025, 6, 12), 400.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 15), LocalDate.of(2025, 6, 16), 90.0)));
+
+        RangeMetrics metrics = reportService.rangeMetrics(from, to);
+
+        assertEquals(290.0, metrics.revenue(), 0.001);
+        assertEquals(3, metrics.roomNights());
+        assertEquals(1, metrics.bookings());
+        assertThrows(IllegalArgumentException.class, () -> reportService.rangeMetrics(to, from));
+    }
+
+    @Test
+    void rangeReport_readsTheDailyAggregates() {
+        DailyAggregateStore aggregates = new DailyAggregateStore(LocalDate.of(2025, 1, 1), LocalDate.of(2026, 1, 1));
+        aggregates.onBookingSaved(new Booking("b1", "room-1", "user-1",
+                LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 3), 300.0));
+        reportService = new ReportService(bookingRepository, roomRepository, Clock.systemUTC(), aggregates);
+
+        String report = reportService.rangeReport(LocalDate.of(2025, 6, 2), LocalDate.of(2025, 6, 9));
+
+        assertTrue(report.contains("Total Revenue: $150.00"));
+        assertTrue(report.contains("Room Nights Booked: 1"));
+        assertTrue(report.contains(String.format("%-15s %10d %12s %10d", "room-1", 0, "$150.00", 1)));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void exportBookings_streamsEveryBookingAsCsv() throws IOException {
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 7, 1);
+        when(bookingRepository.streamInRange(from, to)).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 5, 30), LocalDate.of(2025, 6, 2), 300.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12), 250.5)));
+        StringWriter csv = new StringWriter();
+
+        reportService.exportBookings(from, to, ReportFormat.CSV.open(csv));
+
+        String output = csv.toString();
+        assertTrue(output.contains("Booking ID,Room ID,Customer ID,Check-in,Check-out,Nights,Price\r\n"));
+        assertTrue(output.contains("b1,room-1,user-1,2025-05-30,2025-06-02,3,300.00\r\n"));
+        assertTrue(output.contains("b2,room-2,user-2,2025-06-10,2025-06-12,2,250.50\r\n"));
+        assertTrue(output.contains("Total Revenue,550.50\r\n"));
+    }
+
+    @Test
+    void exportMonthlyReport_asJson_rejectsInvalidMonth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> reportService.exportMonthlyReport(0, 2025, ReportFormat.JSON.open(new StringWriter())));
+    }
+
+    @Test
+    void monthlyMetrics_returnsEveryMonthOfTheRangeInOrder() {
+        var metrics = reportService.monthlyMetrics(YearMonth.of(2024, 11), YearMonth.of(2025, 2));
+
+        assertEquals(4, metrics.size());
+        assertEquals(11, metrics.get(0).month());
+        assertEquals(2025, metrics.get(3).year());
+        assertEquals(2, metrics.get(3).month());
+        assertThrows(IllegalArgumentException.class,
+                () -> reportService.monthlyMetrics(YearMonth.of(2025, 2), YearMonth.of(2024, 11)));
+    }
+
+    @Test
+    void occupancyReport_usesTheRoomInventory() {
+        when(roomRepository.countByType()).thenReturn(Map.of("double", 8L, "suite", 2L));
+        when(bookingRepository.streamInRange(any(), any())).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30), 3000.0)));
+
+        String report = reportService.occupancyReport(6, 2025);
+
+        assertTrue(report.contains("Total Available Room-Nights: 300"));
+        assertTrue(report.contains("Overall Occupancy Rate: 9.7%"));
+        assertTrue(report.contains("Revenue Per Available Room: $300.00"));
+    }
+
+    @Test
+    void customerReport_mergesMonthlySketches_andReportsErrorBounds() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        reportService = new ReportService(bookingRepository, roomRepository, clock);
+        when(bookingRepository.streamInRange(any(), any())).thenAnswer(invocation -> {
+            LocalDate start = invocation.getArgument(0);
+            return Stream.of(
+                    new Booking("a" + start, "room-1", "user-" + start.getMonthValue(), start, start.plusDays(1), 100.0),
+                    new Booking("b" + start, "room-2", "regular", start, start.plusDays(2), 300.0));
+        });
+
+        CustomerEstimate estimate = reportService.approximateCustomers(YearMonth.of(2025, 3), YearMonth.of(2025, 6), 2);
+        reportService.approximateCustomers(YearMonth.of(2025, 3), YearMonth.of(2025, 6), 2);
+
+        assertEquals(5, estimate.uniqueCustomers());
+        assertEquals(new CustomerEstimate.TopCustomer("regular", 1200.0, 0.0), estimate.topCustomers().get(0));
+        assertEquals(0.0, estimate.unlistedRevenueBound());
+        // closed months are sketched once, the current month every time
+        verify(bookingRepository, times(1)).streamInRange(LocalDate.of(2025, 3, 1), LocalDate.of(2025, 4, 1));
+        verify(bookingRepository, times(2)).streamInRange(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 1));
+
+        String report = reportService.customerReport(YearMonth.of(2025, 3), YearMonth.of(2025, 6));
+        assertTrue(report.contains("Estimated Unique Customers: 5"));
+        assertTrue(report.contains("Standard Error: 0.8%"));
+        assertTrue(reportService.customerReport(YearMonth.of(2025, 6), YearMonth.of(2025, 3)).startsWith("ERROR:"));
+    }
+
+    @Test
+    void allRoomsPerformance_groupsInOnePass_sortsAndPages_includingIdleRooms() {
+        when(roomRepository.findAll()).thenReturn(Stream.of(
+                new Room("room-1", "double", 2, 100), new Room("room-2", "double", 2, 100),
+                new Room("idle", "suite", 4, 300)));
+        when(bookingRepository.streamInRange(any(), any())).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 3), 200.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 11), 500.0),
+                new Booking("b3", "room-1", "user-3", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 12), 400.0)));
+
+        RoomPerformance.Page byRevenue = reportService.allRoomsPerformance(6, 2025, RoomPerformance.Sort.REVENUE, 0, 2);
+
+        assertEquals(3, byRevenue.totalRooms());
+        assertEquals(List.of(new RoomPerformance("room-1", 2, 600.0, 4, 4 / 30.0),
+                new RoomPerformance("room-2", 1, 500.0, 10, 10 / 30.0)), byRevenue.rooms());
+        verify(bookingRepository, times(1)).streamInRange(any(), any());
+
+        when(roomRepository.findAll()).thenReturn(Stream.of(new Room("idle", "suite", 4, 300)));
+        when(bookingRepository.streamInRange(any(), any())).thenReturn(Stream.of(
+                new Booking("b1", "room-1", "user-1", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 3), 200.0),
+                new Booking("b2", "room-2", "user-2", LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 11), 500.0)));
+
+        String report = reportService.allRoomsPerformanceReport(6, 2025, RoomPerformance.Sort.OCCUPANCY, 1, 2);
+        assertTrue(report.contains("Page: 2"));
+        assertTrue(report.contains(String.format("%-15s %10d %12s", "idle", 0, "$0.00")));
+        assertFalse(report.contains("room-2"));
+        assertTrue(reportService.allRoomsPerformanceReport(6, 2025, RoomPerformance.Sort.REVENUE, -1, 2)
+                .startsWith("ERROR:"));
+    }
+}
@@ -0,0 +1,88 @@
+package com.roomify.core.service;
+
+import com.roomify.core.dto.RoomInventory;
+import com.roomify.core.repository.RoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomInventoryServiceTest {
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-06-01T00:00:00Z"));
+
+    @Test
+    void current_loadsOnce_andServesTheCachedSnapshot() {
+        when(roomRepository.countByType()).thenReturn(Map.of("double", 3L, "suite", 2L));
+        RoomInventoryService service = new RoomInventoryService(roomRepository, clock, Duration.ofMinutes(5));
+
+        RoomInventory first = service.current();
+        RoomInventory second = service.current();
+
+        assertSame(first, second);
+        assertEquals(5, service.totalRooms());
+        assertEquals(2, first.roomsOfType("suite"));
+        assertEquals(0, first.roomsOfType("penthouse"));
+        verify(roomRepository, times(1)).countByType();
+    }
+
+    @Test
+    void invalidate_andExpiry_reloadWithANewVersion() {
+        when(roomRepository.countByType()).thenReturn(Map.of("double", 3L))
+                .thenReturn(Map.of("double", 4L))
+                .thenReturn(Map.of("double", 6L));
+        RoomInventoryService service = new RoomInventoryService(roomRepository, clock, Duration.ofMinutes(5));
+
+        RoomInventory first = service.current();
+        service.invalidate();
+        RoomInventory second = service.current();
+        clock.advance(Duration.ofMinutes(6));
+        RoomInventory third = service.current();
+
+        assertEquals(3, first.totalRooms());
+        assertEquals(4, second.totalRooms());
+        assertEquals(6, third.totalRooms());
+        assertTrue(first.version() < second.version() && second.version() < third.version());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.roomify.core.service;
 
 import com.roomify.core.dto.Room;
+import com.roomify.core.repository.InMemoryRoomRepository;
 import com.roomify.core.repository.RoomRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -16,7 +22,12 @@ import static org.mockito.Mockito.*;
 class RoomServiceTest {
 
     @Mock RoomRepository roomRepository;
-    @InjectMocks RoomService roomService;
+    RoomService roomService;
+
+    @BeforeEach
+    void setUp() {
+        roomService = new RoomService(roomRepository);
+    }
 
     @Test
     void getRoom_whenExists_returnsRoom() {
@@ -31,4 +42,93 @@ class RoomServiceTest {
         when(roomRepository.findById("x")).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class, () -> roomService.getRoom("x"));
     }
+
+    @Test
+    void getRoom_readsRepositoryOnce_andHandsOutCopies() {
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(new Room("r1", "single", 1, 100.0)));
+
+        Room first = roomService.getRoom("r1");
+        first.setBasePrice(1.0);
+        Room second = roomService.getRoom("r1");
+
+        assertEquals(100.0, second.getBasePrice());
+        verify(roomRepository, times(1)).findById("r1");
+    }
+
+    @Test
+    void saveRoom_invalidatesCachedRoomAndChangesEtag() {
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        rooms.save(new Room("r1", "single", 1, 100.0));
+        RoomInventoryService inventory = new RoomInventoryService(rooms);
+        Clock clock = Clock.fixed(Instant.parse("2025-06-15T10:00:00Z"), ZoneOffset.UTC);
+        ReportCache reportCache = new ReportCache(null, clock);
+        RoomService service = new RoomService(rooms, inventory, reportCache, 10);
+        assertEquals(1, inventory.totalRooms());
+        String before = service.cachedRoom("r1").etag();
+        String occupancyBefore = reportCache.etag(ReportCache.Kind.OCCUPANCY, 1, 2024, "text");
+
+        service.saveRoom(new Room("r1", "single", 1, 120.0));
+        service.saveRoom(new Room("r2", "double", 2, 150.0));
+
+        RoomService.CachedRoom after = service.cachedRoom("r1");
+        assertEquals(120.0, after.room().getBasePrice());
+        assertNotEquals(before, after.etag());
+        assertEquals(2, inventory.totalRooms());
+        // room counts feed every month's occupancy, so no old report ETag may still match
+        assertNotEquals(occupancyBefore, reportCache.etag(ReportCache.Kind.OCCUPANCY, 1, 2024, "text"));
+    }
+
+    @Test
+    void etag_dependsOnContentOnly() {
+        String etag = RoomService.etag(new Room("r1", "single", 1, 100.0));
+
+        assertEquals(etag, RoomService.etag(new Room("r1", "single", 1, 100.0)));
+        assertNotEquals(etag, RoomService.etag(new Room("r1", "single", 2, 100.0)));
+        assertTrue(etag.startsWith("\"") && etag.endsWith("\""));
+    }
+
+    @Test
+    void cache_staysWithinMaxEntries() {
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        for (int i = 0; i < 50; i++) {
+            rooms.save(new Room("r" + i, "single", 1, 100.0));
+        }
+        RoomService service = new RoomService(rooms, null, 10);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals("r" + i, service.getRoom("r" + i).getId());
+        }
+
+        assertTrue(service.cachedRooms() <= 10);
+    }
+
+    @Test
+    void getRooms_loadsMissesInOneBatch_inRequestOrder() {
+        when(roomRepository.findById("r1")).thenReturn(Optional.of(new Room("r1", "single", 1, 100.0)));
+        roomService.getRoom("r1");
+        when(roomRepository.findByIds(List.of("r3", "x", "r2")))
+                .thenReturn(List.of(new Room("r3", "suite", 4, 300.0), new Room("r2", "double", 2, 150.0)));
+
+        List<Room> rooms = roomService.getRooms(List.of("r3", "r1", "x", "r2"));
+
+        assertEquals(List.of("r3", "r1", "r2"), rooms.stream().map(Room::getId).toList());
+        verify(roomRepository, times(1)).findByIds(anyCollection());
+    }
+
+    @Test
+    void getRooms_whenAllCached_skipsRepository() {
+        InMemoryRoomRepository rooms = spy(new InMemoryRoomRepository());
+        rooms.save(new Room("r1", "single", 1, 100.0));
+        rooms.save(new Room("r2", "double", 2, 150.0));
+        RoomService service = new RoomService(rooms, null, 10);
+        service.getRooms(List.of("r1", "r2"));
+
+        assertEquals(2, service.getRooms(List.of("r2", "r1")).size());
+        verify(rooms, times(1)).findByIds(anyCollection());
+    }
+
+    @Test
+    void constructor_rejectsEmptyCache() {
+        assertThrows(IllegalArgumentException.class, () -> new RoomService(roomRepository, null, 0));
+    }
 }
@@ -0,0 +1,85 @@
+package com.roomify.core.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CustomerSketchTest {
+
+    @Test
+    void hyperLogLog_estimatesWithinThreeStandardErrors_andMergesToTheUnion() {
+        HyperLogLog first = new HyperLogLog();
+        HyperLogLog second = new HyperLogLog();
+        for (int i = 0; i < 200_000; i++) {
+            first.add("user-" + i);
+        }
+        for (int i = 100_000; i < 300_000; i++) {
+            second.add("user-" + i);
+        }
+
+        double tolerance = 3 * first.relativeStandardError();
+        assertEquals(200_000, first.estimate(), 200_000 * tolerance);
+
+        first.merge(second);
+        assertEquals(300_000, first.estimate(), 300_000 * tolerance);
+        assertThrows(IllegalArgumentException.class, () -> first.merge(new HyperLogLog(10)));
+    }
+
+    @Test
+    void hyperLogLog_isExactEnoughForSmallCounts() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            sketch.add("user-" + (i % 10));
+        }
+        assertEquals(10, sketch.estimate());
+    }
+
+    @Test
+    void spaceSaving_findsHeavyCustomers_andBoundsEveryEstimate() {
+        SpaceSavingTopK summary = new SpaceSavingTopK(50);
+        Map<String, Double> exact = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 100_000; i++) {
+            // a few whales on top of a long tail of small spenders
+            String user = i % 10 == 0 ? "whale-" + (i % 30) : "user-" + random.nextInt(20_000);
+            double price = i % 10 == 0 ? 1000 : 100;
+            summary.add(user, price);
+            exact.merge(user, price, Double::sum);
+        }
+
+        List<SpaceSavingTopK.Estimate> top = summary.top(3);
+        assertEquals(Set.of("whale-0", "whale-10", "whale-20"),
+                Set.of(top.get(0).item(), top.get(1).item(), top.get(2).item()));
+        for (SpaceSavingTopK.Estimate estimate : summary.top(50)) {
+            double actual = exact.get(estimate.item());
+            assertTrue(estimate.weight() >= actual - 1e-6);
+            assertTrue(estimate.guaranteedWeight() <= actual + 1e-6);
+        }
+        assertTrue(summary.minWeight() <= summary.totalWeight() / summary.capacity());
+    }
+
+    @Test
+    void customerSketch_mergesAcrossMonths_andSurvivesSerialization() {
+        CustomerSketch may = new CustomerSketch(10, 16);
+        CustomerSketch june = new CustomerSketch(10, 16);
+        for (int i = 0; i < 100; i++) {
+            may.add("user-" + i, 10);
+            june.add("user-" + (i + 50), 10);
+        }
+        may.add("big", 5000);
+        june.add("big", 5000);
+
+        CustomerSketch merged = CustomerSketch.fromBytes(may.toBytes());
+        merged.merge(CustomerSketch.fromBytes(june.toBytes()));
+
+        assertEquals(151, merged.uniqueCustomers(), 151 * 3 * merged.uniqueCustomersRelativeError());
+        SpaceSavingTopK.Estimate top = merged.topCustomers(1).get(0);
+        assertEquals("big", top.item());
+        assertTrue(top.guaranteedWeight() <= 10_000 && top.weight() >= 10_000);
+        assertArrayEquals(merged.toBytes(), CustomerSketch.fromBytes(merged.toBytes()).toBytes());
+        assertThrows(IllegalArgumentException.class,
+                () -> CustomerSketch.fromBytes(Arrays.copyOf(merged.toBytes(), 100)));
+    }
+}